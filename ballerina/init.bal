@@ -16,10 +16,39 @@
 
 import ballerina/jballerina.java;
 
+# Size, in characters, of the buffers through which the parser reads the JSON content.
+configurable int readBufferSize = 1024;
+
+# Size, in characters, up to which a parser retains the buffer of the value being read once the parsing completes.
+# A buffer grown beyond this size to read a large value is released.
+configurable int retainedBufferSize = 65536;
+
+# Number of blocks of a byte block stream which are fetched ahead of the parser, so that the fetching overlaps with
+# the parsing. The read-ahead is disabled if the number is not positive.
+configurable int streamReadAheadBlocks = 4;
+
+# Whether the blocks of the streams are fetched ahead on virtual threads. Otherwise, they are fetched on a bounded pool
+# of platform threads, and by the parser itself while the pool is exhausted.
+configurable boolean streamReadAheadOnVirtualThreads = true;
+
+# Maximum number of platform threads which fetch the blocks of the streams ahead, when the blocks are not fetched on
+# virtual threads. At least one thread is used.
+configurable int streamReadAheadPoolSize = 50;
+
 isolated function init() {
     setModule();
+    setBufferSizes(readBufferSize, retainedBufferSize);
+    setStreamReadAhead(streamReadAheadBlocks, streamReadAheadOnVirtualThreads, streamReadAheadPoolSize);
 }
 
 isolated function setModule() = @java:Method {
     'class: "io.ballerina.lib.data.ModuleUtils"
 } external;
+
+isolated function setBufferSizes(int readBufferSize, int retainedBufferSize) = @java:Method {
+    'class: "io.ballerina.lib.data.jsondata.json.Native"
+} external;
+
+isolated function setStreamReadAhead(int blocks, boolean onVirtualThreads, int poolSize) = @java:Method {
+    'class: "io.ballerina.lib.data.jsondata.json.Native"
+} external;
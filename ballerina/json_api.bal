@@ -33,13 +33,36 @@ public isolated function parseAsType(json v, Options options = {}, typedesc<anyd
 public isolated function parseString(string s, Options options = {}, typedesc<anydata> t = <>)
         returns t|Error = @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
 
-# Converts JSON byte[] to subtype of anydata.
+# Converts JSON byte[] to subtype of anydata. A slice of the byte[] can be converted in place, without copying it.
 #
 # + s - Source JSON byte[]
 # + options - Options to be used for filtering in the projection
 # + t - Target type
+# + offset - Index of the first byte of the JSON document in `s`
+# + length - Number of bytes of the JSON document, which defaults to the rest of `s`
 # + return - On success, value belonging to the given target type, else returns an `jsondata:Error` value.
-public isolated function parseBytes(byte[] s, Options options = {}, typedesc<anydata> t = <>)
+public isolated function parseBytes(byte[] s, Options options = {}, typedesc<anydata> t = <>, int offset = 0,
+        int length = s.length() - offset) returns t|Error = @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+# Converts the JSON content of a file to subtype of anydata. The file is memory mapped and parsed in place, without
+# reading it into a `byte[]` or a byte-block-stream first.
+#
+# + filePath - Path of the source JSON file
+# + options - Options to be used for filtering in the projection
+# + t - Target type
+# + return - On success, value belonging to the given target type, else returns an `jsondata:Error` value.
+public isolated function parseFile(string filePath, Options options = {}, typedesc<anydata> t = <>)
+        returns t|Error = @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+# Converts a large JSON byte[] to subtype of anydata, using multiple cores. If the target type is an array and the
+# source is a JSON array, slices of the members are converted in parallel, otherwise the source is converted as
+# with `parseBytes`.
+#
+# + s - Source JSON byte[]
+# + options - Options to be used for filtering in the projection and for parsing in parallel
+# + t - Target type
+# + return - On success, value belonging to the given target type, else returns an `jsondata:Error` value.
+public isolated function parseBytesParallel(byte[] s, ParallelParseOptions options = {}, typedesc<anydata> t = <>)
         returns t|Error = @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
 
 # Converts JSON byte-block-stream to subtype of anydata.
@@ -51,6 +74,202 @@ public isolated function parseBytes(byte[] s, Options options = {}, typedesc<any
 public isolated function parseStream(stream<byte[], error?> s, Options options = {}, typedesc<anydata> t = <>)
         returns t|Error = @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
 
+# Converts newline-delimited JSON, i.e. JSON Lines, to an array of subtype of anydata. The lines are parsed in
+# parallel, and blank lines are ignored.
+#
+# + s - Source JSON Lines as byte[] or byte-block-stream
+# + options - Options to be used for filtering in the projection and for parsing the lines in parallel
+# + t - Target type of a line
+# + return - On success, an array of values belonging to the given target type, else returns an `jsondata:Error`
+# value.
+public isolated function parseLines(byte[]|stream<byte[], error?> s, LinesOptions options = {},
+        typedesc<anydata> t = <>) returns t[]|Error =
+    @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+# Converts newline-delimited JSON, i.e. JSON Lines, in a file to an array of subtype of anydata. The lines are
+# parsed in parallel while the file is read, and blank lines are ignored.
+#
+# + filePath - Path of the source JSON Lines file
+# + options - Options to be used for filtering in the projection and for parsing the lines in parallel
+# + t - Target type of a line
+# + return - On success, an array of values belonging to the given target type, else returns an `jsondata:Error`
+# value.
+public isolated function parseLinesFromFile(string filePath, LinesOptions options = {}, typedesc<anydata> t = <>)
+        returns t[]|Error = @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+# Converts the elements of a JSON array read from a byte-block-stream to subtype of anydata, one at a time.
+# Each element is returned as soon as it is read, hence the whole array is never held in memory.
+#
+# + s - Source JSON byte-block-stream with an array as the root
+# + options - Options to be used for filtering in the projection
+# + t - Target type of an element
+# + return - On success, a stream of values belonging to the given target type, else returns an `jsondata:Error`
+# value.
+public isolated function parseAsStream(stream<byte[], error?> s, Options options = {}, typedesc<anydata> t = <>)
+        returns stream<t, Error?>|Error =
+    @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+# Parses a JSON document which is received in chunks, e.g. as frames or socket reads, without waiting for the
+# whole document. Each chunk is parsed as soon as it is fed, and a chunk may end anywhere in the document.
+public isolated class Parser {
+
+    # Initializes the parser. The document is converted to the target type as it is parsed.
+    #
+    # + t - Target type
+    # + options - Options to be used for filtering in the projection
+    public isolated function init(typedesc<anydata> t, Options options = {}) {
+        initParser(self, t, options);
+    }
+
+    # Parses the next chunk of the UTF-8 encoded JSON document.
+    #
+    # + chunk - Next chunk of the JSON document
+    # + return - An `jsondata:Error` value if the content read so far is invalid, else nil
+    public isolated function feed(byte[] chunk) returns Error? =
+        @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+    # Signals the end of the JSON document.
+    #
+    # + return - On success, value belonging to the target type the parser was initialized with, else returns an
+    # `jsondata:Error` value.
+    public isolated function finish() returns anydata|Error =
+        @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+}
+
+isolated function initParser(Parser parser, typedesc<anydata> t, Options options) =
+    @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+class ElementIterator {
+    private final stream<byte[], error?> byteStream;
+    private boolean endOfInput = false;
+
+    isolated function init(stream<byte[], error?> byteStream, typedesc<anydata> t, Options options) {
+        self.byteStream = byteStream;
+        initElementParser(self, t, options);
+    }
+
+    public isolated function next() returns record {|anydata value;|}|Error? {
+        // Read the next chunk only once the elements of the previous chunks are taken.
+        while !hasNextElement(self) {
+            if self.endOfInput {
+                return;
+            }
+            record {|byte[] value;|}|error? chunk = self.byteStream.next();
+            if chunk is error {
+                return error Error(chunk.message(), chunk);
+            }
+            if chunk is () {
+                self.endOfInput = true;
+                check finishElementParser(self);
+            } else {
+                check feedElementParser(self, chunk.value);
+            }
+        }
+        return {value: check nextElement(self)};
+    }
+
+    public isolated function close() returns Error? {
+        error? err = self.byteStream.close();
+        if err is error {
+            return error Error(err.message(), err);
+        }
+    }
+}
+
+isolated function initElementParser(ElementIterator iterator, typedesc<anydata> t, Options options) =
+    @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+isolated function feedElementParser(ElementIterator iterator, byte[] chunk) returns Error? =
+    @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+isolated function finishElementParser(ElementIterator iterator) returns Error? =
+    @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+isolated function hasNextElement(ElementIterator iterator) returns boolean =
+    @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+isolated function nextElement(ElementIterator iterator) returns anydata|Error =
+    @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+# Parses a UTF-8 encoded JSON document lazily. Only the structure of the document is indexed up front, and a value is
+# decoded only when it is accessed, hence reading a few members of a large document does not decode the rest of it.
+# Syntax errors in a value are reported when the value is accessed.
+#
+# + s - Source JSON byte array
+# + return - On success, the root value of the document, else returns an `jsondata:Error` value.
+public isolated function parseLazy(byte[] s) returns LazyJson|Error =
+    @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+# A JSON value which is decoded only when it is accessed.
+public type LazyJson isolated object {
+
+    # Returns the member of this JSON object with the given key.
+    #
+    # + key - Key of the member
+    # + return - The member, nil if there is no such member, or an `jsondata:Error` value if this is not a JSON object
+    public isolated function get(string key) returns LazyJson|Error?;
+
+    # Returns the member of this JSON array at the given index.
+    #
+    # + index - Index of the member
+    # + return - The member, nil if the index is out of range, or an `jsondata:Error` value if this is not a JSON array
+    public isolated function getElement(int index) returns LazyJson|Error?;
+
+    # Returns the keys of this JSON object.
+    #
+    # + return - The keys, or an `jsondata:Error` value if this is not a JSON object
+    public isolated function keys() returns string[]|Error;
+
+    # Decodes this value.
+    #
+    # + options - Options to be used for filtering in the projection
+    # + t - Target type
+    # + return - On success, value belonging to the given target type, else returns an `jsondata:Error` value.
+    public isolated function value(Options options = {}, typedesc<anydata> t = <>) returns t|Error;
+};
+
+isolated class LazyJsonValue {
+    *LazyJson;
+
+    public isolated function get(string key) returns LazyJson|Error? =
+        @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native", name: "getLazyMember"} external;
+
+    public isolated function getElement(int index) returns LazyJson|Error? =
+        @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native", name: "getLazyElement"} external;
+
+    public isolated function keys() returns string[]|Error =
+        @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native", name: "getLazyKeys"} external;
+
+    public isolated function value(Options options = {}, typedesc<anydata> t = <>) returns t|Error =
+        @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native", name: "decodeLazy"} external;
+}
+
+# Parses a JSON document once into a document, which can be bound to several target types without parsing the
+# document again.
+#
+# + s - Source JSON string or byte array
+# + return - On success, the parsed document, else returns an `jsondata:Error` value.
+public isolated function parseDocument(string|byte[] s) returns Document|Error =
+    @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
+# A parsed JSON document, which can be bound to several target types.
+public type Document isolated object {
+
+    # Binds the document to the target type.
+    #
+    # + options - Options to be used for filtering in the projection
+    # + t - Target type
+    # + return - On success, value belonging to the given target type, else returns an `jsondata:Error` value.
+    public isolated function bind(Options options = {}, typedesc<anydata> t = <>) returns t|Error;
+};
+
+isolated class TapeDocument {
+    *Document;
+
+    public isolated function bind(Options options = {}, typedesc<anydata> t = <>) returns t|Error =
+        @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native", name: "bindDocument"} external;
+}
+
 # Converts a value of type `anydata` to `json`.
 #
 # + v - Source anydata value
@@ -68,10 +287,17 @@ public isolated function prettify(json value, int indentation = 4) returns strin
     return prettifyJson(value, indent, 0);
 }
 
+# Returns the statistics of the pools of parsing states, e.g. to monitor how often a parse reuses a pooled state.
+#
+# + return - Statistics of the pools of parsing states
+public isolated function getPoolStats() returns PoolStats =
+    @java:Method {'class: "io.ballerina.lib.data.jsondata.json.Native"} external;
+
 # Represent the options that can be used to modify the behaviour of the projection.
 #
 # + allowDataProjection - Enable or disable projection
-# + enableConstraintValidation - Enable or disable constraint validation
+# + enableConstraintValidation - Enable or disable constraint validation. The parse functions check the bounds of
+# record fields while the fields are parsed, and report only the first violated bound
 public type Options record {
     record {
         # If `true`, nil values will be considered as optional fields in the projection.
@@ -82,6 +308,46 @@ public type Options record {
     boolean enableConstraintValidation = true;
 };
 
+# Represents the options for parsing in parallel.
+#
+# + parallelism - Maximum number of workers which parse in parallel. The work runs on a shared pool with a worker per
+# available processor. If not positive, all the workers of the pool may be used
+public type ParallelOptions record {
+    int parallelism = 0;
+};
+
+# Represents the options for parsing a JSON document in parallel.
+public type ParallelParseOptions record {
+    *Options;
+    *ParallelOptions;
+};
+
+# Represents the options for parsing JSON Lines. The values are in the order of the lines.
+public type LinesOptions record {
+    *ParallelParseOptions;
+};
+
+# Represents the statistics of a pool of reusable parsing states. A state is taken from the pool for a parse and
+# returned to it once the parse completes, and a new state is created when the pool is empty.
+#
+# + size - Number of states available in the pool
+# + capacity - Maximum number of states kept in the pool
+# + hitRate - Ratio of the parses which reused a pooled state, between 0 and 1
+public type StatePoolStats record {|
+    int size;
+    int capacity;
+    float hitRate;
+|};
+
+# Represents the statistics of the pools of parsing states.
+#
+# + parser - Pool of the states used to parse JSON documents
+# + traverser - Pool of the states used by `parseAsType`
+public type PoolStats record {|
+    StatePoolStats parser;
+    StatePoolStats traverser;
+|};
+
 # Defines the name of the JSON Object key.
 #
 # + value - The name of the JSON Object key
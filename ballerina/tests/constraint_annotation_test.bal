@@ -291,3 +291,110 @@ function invalidConstraintAnnotationForParseAsType() returns [json, typedesc<rec
         ]
     ];
 }
+
+@constraint:String {
+    minLength: 2
+}
+type WarehouseCode string;
+
+type Warehouse record {|
+    string name;
+    map<WarehouseCode[]|int> codes;
+|};
+
+@test:Config {
+    groups: ["constraint-validation"]
+}
+function testConstraintOfNestedReferencedTypeForParseString() returns error? {
+    Warehouse warehouse = check parseString(string `{"name": "W1", "codes": {"a": ["AB", "CD"], "b": 1}}`);
+    test:assertEquals(warehouse, {name: "W1", codes: {a: ["AB", "CD"], b: 1}});
+
+    Warehouse|Error err = parseString(string `{"name": "W1", "codes": {"a": ["AB", "C"]}}`);
+    test:assertTrue(err is Error);
+    test:assertTrue((<Error>err).message().startsWith("Validation failed for "));
+
+    Warehouse|Error err2 = parseString(string `{"name": "W1", "codes": {"a": ["AB", "C"]}}`,
+            options = {enableConstraintValidation: false});
+    test:assertTrue(err2 is Warehouse);
+}
+
+type SensorReading record {|
+    @constraint:Int {
+        minValue: 0
+    }
+    int count;
+    string[] tags;
+|};
+
+type Sensor record {|
+    string id;
+    SensorReading reading;
+|};
+
+@test:Config {
+    groups: ["constraint-validation"]
+}
+function testConstraintViolationBeforeEndOfDocumentForParseString() {
+    Sensor|Error err = parseString(string `{"id": "S1", "reading": {"count": -1, "tags": ["a", `);
+    test:assertTrue(err is Error);
+    test:assertEquals((<Error>err).message(), "Validation failed for '$.reading.count:minValue' constraint(s).");
+
+    Sensor|Error err2 = parseString(string `{"id": "S1", "reading": {"count": -1, "tags": ["a", `,
+            options = {enableConstraintValidation: false});
+    test:assertTrue(err2 is Error);
+    test:assertFalse((<Error>err2).message().startsWith("Validation failed for "));
+}
+
+@test:Config {
+    groups: ["constraint-validation"]
+}
+function testConstraintValidationForParser() returns error? {
+    Parser parser = new (Sensor);
+    check parser.feed(string `{"id": "S1", "reading": {"count": -1, "tags": []}}`.toBytes());
+    anydata|Error err = parser.finish();
+    test:assertTrue(err is Error);
+    test:assertEquals((<Error>err).message(), "Validation failed for '$.reading.count:minValue' constraint(s).");
+}
+
+type Thresholds record {|
+    @constraint:Int {
+        minValue: 0
+    }
+    int low;
+    @constraint:Int {
+        minValue: 0
+    }
+    int high;
+|};
+
+@test:Config {
+    groups: ["constraint-validation"]
+}
+function testFirstConstraintViolationReportedForParseString() {
+    Thresholds|Error err = parseString(string `{"low": -1, "high": -2}`);
+    test:assertTrue(err is Error);
+    test:assertEquals((<Error>err).message(), "Validation failed for '$.low:minValue' constraint(s).");
+}
+
+@constraint:Array {
+    maxLength: 2
+}
+type Tags string[];
+
+type TaggedItem record {|
+    string id;
+    Tags tags;
+|};
+
+@test:Config {
+    groups: ["constraint-validation"]
+}
+function testArrayMaxLengthViolationBeforeEndOfArrayForParseString() {
+    TaggedItem|Error err = parseString(string `{"id": "I1", "tags": ["a", "b", "c", `);
+    test:assertTrue(err is Error);
+    test:assertEquals((<Error>err).message(), "Validation failed for '$.tags:maxLength' constraint(s).");
+
+    TaggedItem|Error item = parseString(string `{"id": "I1", "tags": ["a", "b", "c"]}`,
+            options = {enableConstraintValidation: false});
+    test:assertEquals(item, {id: "I1", tags: ["a", "b", "c"]});
+}
@@ -92,6 +92,47 @@ function testParseStrema(string filePath, typedesc<record {}> expectedType, reco
     test:assertEquals(data, expectedData, "Data mismatched");
 }
 
+@test:Config {
+    dataProvider: dataProviderForFileReadTest
+}
+function testParseFile(string filePath, typedesc<record {}> expectedType, record {} expectedData) returns error? {
+    record {} data = check parseFile(FILE_PATH + filePath, {}, expectedType);
+    test:assertEquals(data, expectedData, "Data mismatched");
+}
+
+@test:Config
+function testParseFileNegative() {
+    json|Error data = parseFile(FILE_PATH + "non_existent.json");
+    test:assertTrue(data is Error);
+    test:assertTrue((<Error>data).message().startsWith("error reading while JSON"));
+
+    json|Error data2 = parseFile(FILE_PATH + "invalid\u{0}.json");
+    test:assertTrue(data2 is Error);
+    test:assertTrue((<Error>data2).message().startsWith("error reading while JSON"));
+}
+
+@test:Config
+function testErrorLocationInFile() returns error? {
+    // The error is beyond the first read buffer, after a skipped value spanning many lines.
+    string filePath = FILE_PATH + "invalid_location.json";
+    string message = "'expected ':'' at line: '44' column: '13'";
+    record {|int total;|}|Error data = parseFile(filePath);
+    test:assertTrue(data is Error);
+    test:assertEquals((<Error>data).message(), message);
+
+    json|Error data2 = parseFile(filePath);
+    test:assertTrue(data2 is Error);
+    test:assertEquals((<Error>data2).message(), message);
+
+    record {|int total;|}|Error data3 = parseString(check io:fileReadString(filePath));
+    test:assertTrue(data3 is Error);
+    test:assertEquals((<Error>data3).message(), message);
+
+    record {|int total;|}|Error data4 = parseStream(check io:fileReadBlocksAsStream(filePath, 16));
+    test:assertTrue(data4 is Error);
+    test:assertEquals((<Error>data4).message(), message);
+}
+
 function dataProviderForFileReadTest() returns [string, typedesc<record {}>, record {}][] {
     return [
         [
@@ -43,6 +43,19 @@ isolated function testNilAsExpectedTypeWithParseString() returns error? {
     test:assertEquals(val, ());
 }
 
+@test:Config
+isolated function testParseStringAfterErrorInsideValue() returns error? {
+    json|Error err = parseString(string `{"a": "abc`);
+    test:assertTrue(err is Error);
+    json val = check parseString(string `{"b": 1}`);
+    test:assertEquals(val, {b: 1});
+
+    err = parseString(string `{"a": 12`);
+    test:assertTrue(err is Error);
+    val = check parseString(string `{"c": "x"}`);
+    test:assertEquals(val, {c: "x"});
+}
+
 @test:Config
 isolated function testSimpleJsonStringToRecord() returns Error? {
     string j = string `{"a": "hello", "b": 1}`;
@@ -1765,3 +1778,524 @@ isolated function testConvertStringValueNegative() {
     test:assertTrue(err9 is Error);
     test:assertEquals((<Error>err9).message(), "incompatible expected type 'float' for value '1D'");
 }
+
+@test:Config
+isolated function testParseBytesWithMultiByteCharacters() returns error? {
+    string jsonStr = string `{"name": "Ñandú 😀", "city": "東京", "note": "café"}`;
+    record {|string name; string city; string note;|} val = check parseBytes(jsonStr.toBytes());
+    test:assertEquals(val.name, "Ñandú 😀");
+    test:assertEquals(val.city, "東京");
+    test:assertEquals(val.note, "café");
+
+    map<json> jsonVal = check parseBytes(jsonStr.toBytes());
+    test:assertEquals(jsonVal, {name: "Ñandú 😀", city: "東京", note: "café"});
+}
+
+@test:Config
+isolated function testParseBytesSlice() returns error? {
+    byte[] bytes = string `[1, 2]{"a": "é"}[3]`.toBytes();
+    int[] val1 = check parseBytes(bytes, length = 6);
+    test:assertEquals(val1, [1, 2]);
+
+    map<string> val2 = check parseBytes(bytes, offset = 6, length = 11);
+    test:assertEquals(val2, {a: "é"});
+
+    int[] val3 = check parseBytes(bytes, offset = 17);
+    test:assertEquals(val3, [3]);
+
+    int[]|Error err1 = parseBytes(bytes, offset = 2, length = 3);
+    test:assertTrue(err1 is Error);
+
+    int[]|Error err2 = parseBytes(bytes, offset = 17, length = 5);
+    test:assertTrue(err2 is Error);
+    test:assertEquals((<Error>err2).message(),
+            "invalid range of offset '17' and length '5' for a byte[] of length '20'");
+
+    int[]|Error err3 = parseBytes(bytes, offset = -1);
+    test:assertTrue(err3 is Error);
+}
+
+type RenamedFieldsRec record {|
+    @Name {
+        value: "full_name"
+    }
+    string name;
+    int age;
+    string city?;
+|};
+
+@test:Config
+isolated function testParseArrayOfRecordsWithRenamedFields() returns error? {
+    string jsonStr = string `[{"full_name": "Anne", "age": 30, "city": "Colombo"}, {"age": 25, "full_name": "Bob"}]`;
+    RenamedFieldsRec[] val = check parseString(jsonStr);
+    test:assertEquals(val, [{name: "Anne", age: 30, city: "Colombo"}, {name: "Bob", age: 25}]);
+
+    RenamedFieldsRec[] val2 = check parseAsType(check parseString(jsonStr, {}, json));
+    test:assertEquals(val2, val);
+
+    string invalidJsonStr = string `[{"full_name": "Anne", "age": 30}, {"age": 25}]`;
+    RenamedFieldsRec[]|Error err = parseString(invalidJsonStr);
+    test:assertTrue(err is Error);
+    test:assertEquals((<Error>err).message(), "required field 'name' not present in JSON");
+
+    RenamedFieldsRec[]|Error err2 = parseAsType(check parseString(invalidJsonStr, {}, json));
+    test:assertTrue(err2 is Error);
+    test:assertEquals((<Error>err2).message(), "required field 'name' not present in JSON");
+}
+
+@test:Config
+isolated function testParseRepeatedFieldNames() returns error? {
+    string longKey = "a_field_name_which_is_longer_than_the_names_usually_found_in_json_documents";
+    string jsonStr = string `[{"id": 1, "name": "a", "${longKey}": true}, {"id": 2, "name": "b", "${longKey}": false}]`;
+    json[] val = check parseString(jsonStr);
+    test:assertEquals(val, [{id: 1, name: "a", [longKey]: true}, {id: 2, name: "b", [longKey]: false}]);
+
+    map<json>[] val2 = check parseString(jsonStr);
+    test:assertEquals(val2[1], {id: 2, name: "b", [longKey]: false});
+}
+
+@test:Config
+isolated function testSkipProjectedValuesWithNestedStrings() returns error? {
+    string jsonStr = string `{
+        "id": 1,
+        "meta": {"tags": ["a]", "{b", "c\"}"], "note": "d\\", "nested": [[{}], {"x": [1, 2]}]},
+        "flag": true,
+        "items": [{"name": "x", "extra": {"y": "]}"}}, {"name": "y", "extra": [null, "]"]}],
+        "name": "test"
+    }`;
+    record {|int id; record {|string name;|}[] items; string name;|} val = check parseString(jsonStr);
+    test:assertEquals(val, {id: 1, items: [{name: "x"}, {name: "y"}], name: "test"});
+
+    [int, string] val2 = check parseString(string `[1, "a", {"b": "}"}, ["]"], -2.5e3, "c"]`);
+    test:assertEquals(val2, [1, "a"]);
+
+    record {|int id;|}|Error err = parseString(string `{"id": 1, "meta": {"tags": ["a", "b"`);
+    test:assertTrue(err is Error);
+    test:assertTrue((<Error>err).message().includes("unexpected end of JSON document"));
+}
+
+@test:Config {
+    dataProvider: malformedProjectedValueDataProvider
+}
+isolated function testMalformedProjectedValues(string sourceData, typedesc<anydata> expType, string message) {
+    anydata|Error val = parseString(sourceData, {}, expType);
+    test:assertTrue(val is Error);
+    test:assertEquals((<Error>val).message(), message);
+}
+
+function malformedProjectedValueDataProvider() returns [string, typedesc<anydata>, string][] {
+    return [
+        [string `{"id": 1, "a": tru}`, record {|int id;|}, "incompatible expected type 'json' for value 'tru'"],
+        [string `{"id": 1, "a": nulls}`, record {|int id;|}, "incompatible expected type 'json' for value 'nulls'"],
+        [string `{"id": 1, "a": 1.5f}`, record {|int id;|}, "incompatible expected type 'json' for value '1.5f'"],
+        [string `{"id": 1, "a": }`, record {|int id;|}, "incompatible expected type 'json' for value ''"],
+        [string `{"id": 1, "a": 1]`, record {|int id;|}, "'expected ',' or '}'' at line: '1' column: '19'"],
+        [string `{"id": 1, "a": {1 2}}`, record {|int id;|}, "'expected '\"' or '}'' at line: '1' column: '18'"],
+        [string `{"id": 1, "a": {"b" 2}}`, record {|int id;|}, "'expected ':'' at line: '1' column: '22'"],
+        [string `{"id": 1, "a": {"b": 2,}}`, record {|int id;|}, "'expected '\"'' at line: '1' column: '25'"],
+        [string `{"id": 1, "a": [1,,]}`, record {|int id;|}, "incompatible expected type 'json' for value ''"],
+        [string `{"id": 1, "a": [1}}`, record {|int id;|},
+            "'unexpected end of JSON document' at line: '1' column: '21'"],
+        [string `{"id": 1, "a": ["\q"]}`, record {|int id;|},
+            "'expected 'escaped characters'' at line: '1' column: '20'"],
+        [string `[1, 2}]`, [int], "incompatible expected type 'json' for value '2}'"],
+        [string `[1, [2}]`, [int], "incompatible expected type 'json' for value '2}'"],
+        [string `[1, {"b": 2}}]`, [int], "'expected ',' or ']'' at line: '1' column: '14'"],
+        [string `[1, 2,]`, [int], "incompatible expected type 'json' for value ''"]
+    ];
+}
+
+@test:Config {
+    dataProvider: errorLocationDataProvider
+}
+isolated function testErrorLocationAfterNewlines(string sourceData, typedesc<anydata> expType, string message) {
+    anydata|Error val = parseString(sourceData, {}, expType);
+    test:assertTrue(val is Error);
+    test:assertEquals((<Error>val).message(), message);
+
+    byte[] bytes = sourceData.toBytes();
+    anydata|Error val2 = parseBytes(bytes, {}, expType);
+    test:assertTrue(val2 is Error);
+    test:assertEquals((<Error>val2).message(), message);
+
+    // The blocks end in the middle of the lines, hence the location is resolved across the blocks.
+    byte[][] blocks = [];
+    int i = 0;
+    while i < bytes.length() {
+        blocks.push(bytes.slice(i, int:min(i + 7, bytes.length())));
+        i += 7;
+    }
+    anydata|Error val3 = parseStream(blocks.toStream(), {}, expType);
+    test:assertTrue(val3 is Error);
+    test:assertEquals((<Error>val3).message(), message);
+}
+
+function errorLocationDataProvider() returns [string, typedesc<anydata>, string][] {
+    return [
+        [string `{"a": "x
+y", "b" 1}`, json, "'expected ':'' at line: '2' column: '9'"],
+        [string `{"a": "x
+y", "b" 1}`, record {|int id;|}, "'expected ':'' at line: '2' column: '9'"],
+        [string `{"x
+y": 1, "b" 1}`, json, "'expected ':'' at line: '2' column: '13'"],
+        [string `{"skip": "x
+y", "id" 1}`, record {|int id;|}, "'expected ':'' at line: '2' column: '10'"],
+        [string `{"skip": {
+    "a": [1,
+        2]
+}, "id" 1}`, record {|int id;|}, "'expected ':'' at line: '4' column: '9'"],
+        [string `{"skip": {
+    "a": [1,
+        2]
+}, "id" 1}`, json, "'expected ':'' at line: '4' column: '9'"]
+    ];
+}
+
+@test:Config
+isolated function testSkipProjectedValuesAcceptedWhenBound() returns error? {
+    string jsonStr = string `{"id": 1, "a": 01, "b": 1., "c": [+2, 01.5]}`;
+    map<json> val = check parseString(jsonStr);
+    test:assertEquals(val, {id: 1, a: 1, b: 1.0, c: [2, 1.5]});
+
+    record {|int id;|} val2 = check parseString(jsonStr);
+    test:assertEquals(val2, {id: 1});
+
+    [int] val3 = check parseString(string `[1, 01, 1.]`);
+    test:assertEquals(val3, [1]);
+}
+
+@test:Config
+isolated function testParseNumbersAndLiterals() returns error? {
+    string jsonStr = string `[0, -0, 9223372036854775807, -9223372036854775808, 9223372036854775808, 1.5, -2.5e-3,
+        1.7976931348623157e308, 0.30000000000000004, 12345678901234567890123, true, false, null]`;
+    json[] val = check parseString(jsonStr);
+    test:assertEquals(val, [0, 0, 9223372036854775807, -9223372036854775807 - 1, 9223372036854775808.0, 1.5,
+        -2.5e-3, 1.7976931348623157e308, 0.30000000000000004, 12345678901234567890123.0, true, false, ()]);
+
+    float[] val2 = check parseString(string `[1, -0.0, 2.2250738585072014E-308, 4.9e-324, 1e23]`);
+    test:assertEquals(val2, [1.0, -0.0, 2.2250738585072014E-308, 4.9e-324, 1e23]);
+
+    record {|int a; decimal b; byte c; int? d; int|float e; boolean f;|} val3 =
+        check parseString(string `{"a": -42, "b": 1.10, "c": 255, "d": null, "e": 2.5, "f": true}`);
+    test:assertEquals(val3, {a: -42, b: 1.10d, c: 255, d: (), e: 2.5, f: true});
+
+    int|Error err = parseString(string `9223372036854775808`);
+    test:assertTrue(err is Error);
+
+    byte|Error err2 = parseString(string `256`);
+    test:assertTrue(err2 is Error);
+}
+
+@test:Config
+isolated function testParseWithChunkedInput() returns error? {
+    byte[] bytes = string `{"name": "Jürgen €", "scores": [1, 2.5, 300], "active": true}`.toBytes();
+    Parser parser = new (RecordWithUnicodeField);
+    foreach byte b in bytes {
+        check parser.feed([b]);
+    }
+    anydata val = check parser.finish();
+    test:assertTrue(val is RecordWithUnicodeField);
+    test:assertEquals(val, {name: "Jürgen €", scores: [1, 2.5, 300], active: true});
+
+    Parser parser2 = new (json);
+    check parser2.feed(bytes.slice(0, 10));
+    check parser2.feed(bytes.slice(10));
+    json val2 = <json> check parser2.finish();
+    test:assertEquals(val2, {name: "Jürgen €", scores: [1, 2.5, 300], active: true});
+
+    Parser parser3 = new (RecordWithUnicodeField);
+    check parser3.feed(bytes.slice(0, 15));
+    anydata|Error err = parser3.finish();
+    test:assertTrue(err is Error);
+    test:assertTrue((<Error>err).message().includes("unexpected end of JSON document"));
+
+    Error? err2 = parser.feed(bytes);
+    test:assertTrue(err2 is Error);
+    test:assertEquals((<Error>err2).message(), "the parser has already finished parsing the JSON document");
+}
+
+type RecordWithUnicodeField record {|
+    string name;
+    decimal[] scores;
+    boolean active;
+|};
+
+@test:Config
+isolated function testParserWithOptions() returns error? {
+    byte[] bytes = string `{"name": "Jürgen €", "id": null, "active": true}`.toBytes();
+    Parser parser = new (record {|string name; boolean active;|});
+    check parser.feed(bytes);
+    record {|string name; boolean active;|} val = <record {|string name; boolean active;|}> check parser.finish();
+    test:assertEquals(val, {name: "Jürgen €", active: true});
+
+    Parser parser2 = new (record {|string name; int id?;|}, {allowDataProjection: {nilAsOptionalField: true}});
+    check parser2.feed(bytes);
+    anydata val2 = check parser2.finish();
+    test:assertEquals(val2, {name: "Jürgen €"});
+
+    Parser parser3 = new (record {|string name;|}, {allowDataProjection: false});
+    check parser3.feed(bytes);
+    anydata|Error err = parser3.finish();
+    test:assertTrue(err is Error);
+}
+
+@test:Config
+isolated function testParseAsStream() returns error? {
+    byte[] bytes = string `[{"name": "Jürgen €", "scores": [1, 2.5], "active": true},
+        {"name": "b", "scores": [], "active": false}, {"name": "c", "scores": [3], "active": true}]`.toBytes();
+    stream<byte[], error?> byteStream = [bytes.slice(0, 13), bytes.slice(13, 70), bytes.slice(70)].toStream();
+    stream<RecordWithUnicodeField, Error?> elements = check parseAsStream(byteStream);
+    test:assertFalse(elements is stream<RecordWithUnicodeField>);
+    RecordWithUnicodeField[] val = check from RecordWithUnicodeField element in elements select element;
+    test:assertEquals(val, [
+        {name: "Jürgen €", scores: [1, 2.5], active: true},
+        {name: "b", scores: [], active: false},
+        {name: "c", scores: [3], active: true}
+    ]);
+
+    stream<int, Error?> ints = check parseAsStream([string `[1, 2, `.toBytes(), string `3, "4"]`.toBytes()].toStream());
+    record {|int value;|}? first = check ints.next();
+    test:assertEquals(first, {value: 1});
+    int[]|Error rest = from int i in ints select i;
+    test:assertTrue(rest is Error);
+}
+
+@test:Config
+isolated function testParseLines() returns error? {
+    string[] lines = [];
+    foreach int i in 0 ..< 5000 {
+        lines.push(string `{"id": ${i}, "name": "item-${i}", "tags": ["a", "b"]}`);
+    }
+    byte[] bytes = string:'join("\n", ...lines).toBytes();
+    record {|int id; string name;|}[] val = check parseLines(bytes);
+    test:assertEquals(val.length(), 5000);
+    test:assertEquals(val[0], {id: 0, name: "item-0"});
+    test:assertEquals(val[4999], {id: 4999, name: "item-4999"});
+
+    stream<byte[], error?> byteStream = [bytes.slice(0, 1000), bytes.slice(1000)].toStream();
+    record {|int id;|}[] val2 = check parseLines(byteStream, {parallelism: 2});
+    test:assertEquals(val2.length(), 5000);
+    test:assertEquals(val2[4999], {id: 4999});
+
+    record {int id; string name;}[] val3 = check parseLinesFromFile(FILE_PATH + "lines.jsonl");
+    test:assertEquals(val3, [{id: 1, name: "a"}, {id: 2, name: "b", "extra": true}, {id: 3, name: "c"}]);
+
+    int[]|Error err = parseLines("1\n2\n\n[3]\n4".toBytes());
+    test:assertTrue(err is Error);
+    test:assertTrue((<Error>err).message().startsWith("invalid JSON at line '4'"));
+
+    int[]|Error err2 = parseLinesFromFile(FILE_PATH + "lines\u{0}.jsonl");
+    test:assertTrue(err2 is Error);
+    test:assertTrue((<Error>err2).message().startsWith("error reading while JSON"));
+}
+
+@test:Config
+function testParseLinesStopsReadingAfterError() {
+    string[] lines = [];
+    foreach int i in 0 ..< 1000 {
+        lines.push(string `{"id": ${i}}`);
+    }
+    byte[][] blocks = ["[1\n".toBytes()];
+    foreach int i in 0 ..< 100 {
+        blocks.push((string:'join("\n", ...lines) + "\n").toBytes());
+    }
+    BlockGenerator generator = new (blocks.cloneReadOnly());
+    stream<byte[], error?> byteStream = new (generator);
+    record {|int id;|}[]|Error err = parseLines(byteStream, {parallelism: 1});
+    test:assertTrue(err is Error);
+    test:assertTrue((<Error>err).message().startsWith("invalid JSON at line '1'"));
+    // Reading stops once the first segment has failed, hence the rest of the stream is not read.
+    test:assertTrue(generator.getNextCalls() < blocks.length());
+}
+
+@test:Config
+function testPoolStats() returns error? {
+    check parseRepeatedly(100);
+    PoolStats stats = getPoolStats();
+    // A state is created only when the pool is empty, hence sequential parses mostly reuse a pooled state.
+    test:assertTrue(stats.parser.hitRate > 0.5);
+    test:assertTrue(stats.traverser.hitRate > 0.5);
+    test:assertTrue(stats.parser.size > 0);
+    test:assertTrue(stats.traverser.size > 0);
+
+    future<error?>[] futures = [];
+    foreach int i in 0 ..< 32 {
+        future<error?> f = start parseRepeatedly(20);
+        futures.push(f);
+    }
+    foreach future<error?> f in futures {
+        check wait f;
+    }
+    stats = getPoolStats();
+    test:assertTrue(stats.parser.size > 0 && stats.parser.size <= stats.parser.capacity);
+    test:assertTrue(stats.traverser.size > 0 && stats.traverser.size <= stats.traverser.capacity);
+    test:assertTrue(stats.parser.hitRate > 0.5 && stats.parser.hitRate <= 1.0);
+}
+
+isolated function parseRepeatedly(int count) returns error? {
+    foreach int i in 0 ..< count {
+        record {|int id;|} val = check parseString(string `{"id": ${i}, "name": "a"}`);
+        test:assertEquals(val, {id: i});
+        record {|int id;|} val2 = check parseAsType({id: i, name: "a"});
+        test:assertEquals(val2, {id: i});
+    }
+}
+
+@test:Config
+isolated function testParseBytesParallel() returns error? {
+    string[] members = [];
+    foreach int i in 0 ..< 10000 {
+        members.push(string `{"id": ${i}, "name": "item, [${i}]", "tags": ["a", {"b": "}"}]}`);
+    }
+    byte[] bytes = string `[${string:'join(", ", ...members)}]`.toBytes();
+    record {|int id; string name;|}[] val = check parseBytesParallel(bytes, {parallelism: 4});
+    test:assertEquals(val.length(), 10000);
+    test:assertEquals(val[0], {id: 0, name: "item, [0]"});
+    test:assertEquals(val[9999], {id: 9999, name: "item, [9999]"});
+
+    json val2 = check parseBytesParallel(bytes);
+    test:assertEquals(val2, check parseBytes(bytes));
+
+    byte[] invalidBytes = string `[${string:'join(", ", ...members)}, ]`.toBytes();
+    json[]|Error err = parseBytesParallel(invalidBytes);
+    test:assertTrue(err is Error);
+    test:assertEquals((<Error>err).message(), (<Error>parseBytes(invalidBytes, t = json)).message());
+}
+
+@test:Config
+isolated function testParseLongStringsWithEscapes() returns error? {
+    string long = "";
+    foreach int i in 0 ..< 300 {
+        long += "abcdé€ ";
+    }
+    string jsonStr = string `{"${long}": "${long}\"${long}\\nA", "b": ["${long}", "x\ty"]}`;
+    map<json> val = check parseString(jsonStr);
+    test:assertEquals(val[long], long + "\"" + long + "\\nA");
+    test:assertEquals(val["b"], [long, "x\ty"]);
+
+    map<json> val2 = check parseBytes(jsonStr.toBytes());
+    test:assertEquals(val2, val);
+
+    string|Error err = parseString(string `"${long}`);
+    test:assertTrue(err is Error);
+    test:assertTrue((<Error>err).message().includes("unexpected end of JSON document"));
+}
+
+@test:Config
+isolated function testParseLazy() returns error? {
+    byte[] bytes = string `{"id": 1, "route": {"service": "orders", "hops": [1, {"x": "y"}]},
+        "payload": {"items": [1, 2, 3], "note": "a, }"}, "key": true, "empty": []}`.toBytes();
+    LazyJson root = check parseLazy(bytes);
+    test:assertEquals(check root.keys(), ["id", "route", "payload", "key", "empty"]);
+
+    LazyJson id = <LazyJson>check root.get("id");
+    int idVal = check id.value();
+    test:assertEquals(idVal, 1);
+
+    LazyJson route = <LazyJson>check root.get("route");
+    string 'service = check (<LazyJson>check route.get("service")).value();
+    test:assertEquals('service, "orders");
+    LazyJson hops = <LazyJson>check route.get("hops");
+    map<string> hop = check (<LazyJson>check hops.getElement(1)).value();
+    test:assertEquals(hop, {x: "y"});
+    test:assertTrue(check hops.getElement(2) is ());
+
+    record {|string note;|} payload = check (<LazyJson>check root.get("payload")).value();
+    test:assertEquals(payload, {note: "a, }"});
+    test:assertEquals(check (<LazyJson>check root.get("key")).value(t = boolean), true);
+    test:assertTrue(check (<LazyJson>check root.get("empty")).getElement(0) is ());
+    test:assertTrue(check root.get("missing") is ());
+
+    LazyJson|Error? err = root.getElement(0);
+    test:assertTrue(err is Error);
+    test:assertEquals((<Error>err).message(), "invalid type 'object' expected 'array'");
+
+    LazyJson|Error err2 = parseLazy("{\"a\": [1, 2}".toBytes());
+    test:assertTrue(err2 is Error);
+}
+
+type Envelope record {
+    string kind;
+};
+
+type OrderPayload record {|
+    string kind;
+    int id;
+    decimal[] amounts;
+|};
+
+@test:Config
+isolated function testParseDocument() returns error? {
+    string jsonStr = string `{"kind": "order", "id": 12, "amounts": [1.5, 2], "meta": {"tags": ["a\"b", "é"]}}`;
+    Document document = check parseDocument(jsonStr);
+    Envelope envelope = check document.bind();
+    test:assertEquals(envelope.kind, "order");
+
+    OrderPayload payload = check document.bind();
+    test:assertEquals(payload, {kind: "order", id: 12, amounts: [1.5d, 2d]});
+
+    json val = check document.bind();
+    test:assertEquals(val, check parseString(jsonStr));
+
+    record {|record {|string[] tags;|} meta;|} meta = check (check parseDocument(jsonStr.toBytes())).bind();
+    test:assertEquals(meta, {meta: {tags: ["a\"b", "é"]}});
+
+    record {|int id;|}|Error err = document.bind({allowDataProjection: false});
+    test:assertTrue(err is Error);
+
+    Document|Error err2 = parseDocument("{\"kind\": }");
+    test:assertTrue(err2 is Error);
+    test:assertEquals((<Error>err2).message(), (<Error>parseString("{\"kind\": }", t = json)).message());
+}
+
+enum OrderStatus {
+    PENDING,
+    SHIPPED,
+    DELIVERED = "delivered",
+    CANCELLED
+}
+
+type StatusCode 100|200|"200"|true|1.5;
+
+@test:Config
+isolated function testEnumAndFiniteTypeMembersAsExpectedType() returns Error? {
+    string str = string `[
+        {"status": "PENDING", "code": 100},
+        {"status": "delivered", "code": "200"},
+        {"status": "CANCELLED", "code": 200},
+        {"status": "SHIPPED", "code": true},
+        {"status": "SHIPPED", "code": 1.5}
+    ]`;
+    record {|OrderStatus status; StatusCode code;|}[] val = check parseString(str);
+    test:assertEquals(val, [
+        {status: PENDING, code: 100},
+        {status: DELIVERED, code: "200"},
+        {status: CANCELLED, code: 200},
+        {status: SHIPPED, code: true},
+        {status: SHIPPED, code: 1.5}
+    ]);
+    test:assertTrue(val[1].code is string);
+    test:assertTrue(val[2].code is int);
+
+    OrderStatus|Error err = parseString("\"DELIVERED\"");
+    test:assertTrue(err is Error);
+
+    StatusCode|Error err2 = parseString("\"100\"");
+    test:assertTrue(err2 is Error);
+
+    StatusCode|Error err3 = parseString("false");
+    test:assertTrue(err3 is Error);
+}
+
+@test:Config
+function testParseStringAfterValueLargerThanRetainedBuffer() returns Error? {
+    string largeValue = "";
+    foreach int i in 0 ..< 10000 {
+        largeValue += "0123456789";
+    }
+    record {|string id; string payload;|} large = check parseString(string `{"id": "A1", "payload": "${largeValue}"}`);
+    test:assertEquals(large.payload.length(), 100000);
+
+    record {|string id; string payload;|} small = check parseString(string `{"id": "A2", "payload": "abc"}`);
+    test:assertEquals(small, {id: "A2", payload: "abc"});
+}
@@ -366,3 +366,88 @@ isolated function testUnionAsExpectedTypeForParseStringNegative() {
     test:assertTrue(err2 is Error);
     test:assertEquals((<Error>err2).message(), "incompatible expected type '(int|data.jsondata:RecC)' for value '{\"a\":\"1\",\"b\":2}'");
 }
+
+type ShipmentEvent record {|
+    string id;
+    record {|int count;|} items;
+|};
+
+type RefundEvent record {|
+    string id;
+    decimal amount;
+|};
+
+type NoteEvent record {|
+    string id;
+    string|record {|string text;|} note;
+|};
+
+@test:Config {
+    groups: ["Union"]
+}
+isolated function testUnionOfRecordsWithMembersFailingInNestedValues() returns error? {
+    json[] events = [
+        {id: "1", items: {count: 2}},
+        {id: "2", amount: 10.5},
+        {id: "3", note: {text: "fragile"}}
+    ];
+    (ShipmentEvent|RefundEvent|NoteEvent)[] val = check parseAsType(events);
+    test:assertTrue(val[0] is ShipmentEvent);
+    test:assertTrue(val[1] is RefundEvent);
+    test:assertTrue(val[2] is NoteEvent);
+    test:assertEquals(val[2], {id: "3", note: {text: "fragile"}});
+
+    (ShipmentEvent|RefundEvent|NoteEvent)[] val2 = check parseString(events.toJsonString());
+    test:assertEquals(val2, val);
+
+    ShipmentEvent|RefundEvent|NoteEvent|Error err = parseAsType({id: "4", note: {text: 1}});
+    test:assertTrue(err is Error);
+    test:assertEquals((<Error>err).message(), "incompatible expected type " +
+            "'(data.jsondata:ShipmentEvent|data.jsondata:RefundEvent|data.jsondata:NoteEvent)' " +
+            "for value '{\"id\":\"4\",\"note\":{\"text\":1}}'");
+}
+
+type Measurement record {|
+    int|float|decimal|string? value;
+    byte|float|boolean flag;
+|};
+
+@test:Config {
+    groups: ["Union"]
+}
+isolated function testScalarUnionsAsExpectedTypeForParseString() returns error? {
+    string jsonStr = string `[
+        {"value": 1, "flag": 255},
+        {"value": 1.5, "flag": 256},
+        {"value": 2e3, "flag": true},
+        {"value": "1", "flag": 0.5},
+        {"value": null, "flag": false}
+    ]`;
+    Measurement[] val = check parseString(jsonStr);
+    test:assertEquals(val, [
+        {value: 1, flag: 255},
+        {value: 1.5, flag: 256.0},
+        {value: 2000.0, flag: true},
+        {value: "1", flag: 0.5},
+        {value: (), flag: false}
+    ]);
+    test:assertTrue(val[0].value is int);
+    test:assertTrue(val[1].value is float);
+    test:assertTrue(val[1].flag is float);
+    test:assertTrue(val[3].value is string);
+
+    Measurement|Error err = parseString(string `{"value": true, "flag": 1}`);
+    test:assertTrue(err is Error);
+}
+
+@test:Config {
+    groups: ["Union"]
+}
+isolated function testUnionOfIntSubtypesWithValuesOutOfRange() returns error? {
+    (byte|int:Signed16)[] val = check parseString("[300, -5, 7]");
+    test:assertEquals(val, [300, -5, 7]);
+    test:assertTrue(val[2] is byte);
+
+    (byte|int:Signed8)[]|Error err = parseString("[1, 300]");
+    test:assertTrue(err is Error);
+}
@@ -316,3 +316,30 @@ function readonlyIntersectionTestDataForParseAsType() returns [json, typedesc<an
         [{"id": 12, "health": {"student": {"name": "John", "age": 30, "height": 1.8}, "address": "this is address", "count": 14}}, Rec5, expectedResults[36]]
     ];
 }
+
+type ConfigSnapshot record {|
+    string name;
+    json settings;
+    map<int>[] limits;
+|};
+
+@test:Config
+function testReadOnlyValuesAreFrozenWithoutSharingTheSource() returns error? {
+    string str = string `{"name": "prod", "settings": {"a": [1, {"b": 2}]}, "limits": [{"x": 1}, {"y": 2}]}`;
+    ConfigSnapshot & readonly val = check parseString(str);
+    test:assertTrue(val.settings is readonly);
+    test:assertTrue(val.limits[1] is map<int> & readonly);
+    test:assertEquals(val, {name: "prod", settings: {"a": [1, {"b": 2}]}, limits: [{x: 1}, {y: 2}]});
+
+    map<json> settings = {"a": [1, {"b": 2}]};
+    json source = {"name": "prod", "settings": settings, "limits": [{"x": 1}]};
+    ConfigSnapshot & readonly val2 = check parseAsType(source);
+    test:assertTrue(val2.settings is readonly);
+    test:assertFalse(settings is readonly);
+    settings["c"] = 3;
+    test:assertEquals(val2.settings, {"a": [1, {"b": 2}]});
+
+    json & readonly val3 = check parseAsType(source);
+    test:assertTrue(val3 is readonly);
+    test:assertFalse(source is readonly);
+}
@@ -154,3 +154,118 @@ function createCustomer(int id) returns CustomerR1 {
         "product": PRODUCTS[id % PRODUCTS.length()]
     };
 }
+
+@test:Config
+function testStreamWithCharactersSplitAcrossBlocks() returns error? {
+    byte[] content = string `{"id": 1, "name": "Zoë ✓", "product": "IAM"}`.toBytes();
+    // Split inside the multi-byte characters, with an empty block in between.
+    stream<byte[], error?> blocks = [content.slice(0, 22), [], content.slice(22, 26), content.slice(26)].toStream();
+    CustomerR1 customer = check parseStream(blocks);
+    test:assertEquals(customer, {id: 1, name: "Zoë ✓", product: "IAM"});
+}
+
+@test:Config
+function testInvalidContentInStream() {
+    stream<byte[], error?> blocks = [`{"id": 1, "name": `.toBytes(), `"Anne", "product": }`.toBytes()].toStream();
+    CustomerR1|Error customer = parseStream(blocks);
+    test:assertTrue(customer is Error);
+}
+
+isolated class BlockGenerator {
+    private final readonly & byte[][] blocks;
+    private int index = 0;
+    private int nextCalls = 0;
+    private boolean closed = false;
+
+    isolated function init(readonly & byte[][] blocks) {
+        self.blocks = blocks;
+    }
+
+    public isolated function next() returns record {|byte[] value;|}|error? {
+        lock {
+            self.nextCalls += 1;
+            int index = self.index;
+            if index == self.blocks.length() {
+                return;
+            }
+            self.index = index + 1;
+            return {value: self.blocks[index]};
+        }
+    }
+
+    public isolated function close() returns error? {
+        lock {
+            self.closed = true;
+        }
+    }
+
+    isolated function getNextCalls() returns int {
+        lock {
+            return self.nextCalls;
+        }
+    }
+
+    isolated function isClosed() returns boolean {
+        lock {
+            return self.closed;
+        }
+    }
+}
+
+function createCustomerBlocks(int count) returns readonly & byte[][] {
+    byte[][] blocks = [`[`.toBytes()];
+    foreach int id in 1 ... count {
+        string separator = id == count ? "]" : ",";
+        blocks.push((createCustomer(id).toJsonString() + separator).toBytes());
+    }
+    return blocks.cloneReadOnly();
+}
+
+function parseCustomerBlocks(int readAheadBlocks, boolean onVirtualThreads, int poolSize = streamReadAheadPoolSize)
+        returns CustomerR1[]|Error {
+    setStreamReadAhead(readAheadBlocks, onVirtualThreads, poolSize);
+    stream<byte[], error?> blocks = new (new BlockGenerator(createCustomerBlocks(50)));
+    CustomerR1[]|Error customers = parseStream(blocks);
+    setStreamReadAhead(streamReadAheadBlocks, streamReadAheadOnVirtualThreads, streamReadAheadPoolSize);
+    return customers;
+}
+
+@test:Config
+function testStreamWithReadAheadDisabled() returns error? {
+    CustomerR1[] customers = check parseCustomerBlocks(0, true);
+    test:assertEquals(customers.length(), 50);
+    test:assertEquals(customers[49], createCustomer(50));
+}
+
+@test:Config
+function testStreamWithReadAheadOnPlatformThreads() returns error? {
+    CustomerR1[] customers = check parseCustomerBlocks(2, false);
+    test:assertEquals(customers.length(), 50);
+    test:assertEquals(customers[49], createCustomer(50));
+
+    // The pool size is at least one, even if configured otherwise.
+    foreach int poolSize in [1, 0] {
+        CustomerR1[] customers2 = check parseCustomerBlocks(2, false, poolSize);
+        test:assertEquals(customers2, customers);
+    }
+}
+
+@test:Config
+function testStreamUsableAfterInvalidContentWithReadAhead() returns error? {
+    byte[][] content = [`[{"id": 1, "name": "Anne", "product": "IAM"},`.toBytes(), `{"id": 2, }`.toBytes()];
+    foreach int id in 3 ... 20 {
+        content.push(("," + createCustomer(id).toJsonString()).toBytes());
+    }
+    BlockGenerator generator = new (content.cloneReadOnly());
+    stream<byte[], error?> blocks = new (generator);
+    CustomerR1[]|Error customers = parseStream(blocks);
+    test:assertTrue(customers is Error);
+
+    // The read-ahead is stopped before the parse returns, hence only the caller reads the stream afterwards.
+    int nextCalls = generator.getNextCalls();
+    record {|byte[] value;|}|error? block = blocks.next();
+    test:assertTrue(block !is error);
+    check blocks.close();
+    test:assertTrue(generator.isClosed());
+    test:assertEquals(generator.getNextCalls(), nextCalls + 1);
+}
@@ -27,6 +27,8 @@ public class Constants {
     static final String PARSE_STRING = "parseString";
     static final String PARSE_BYTES = "parseBytes";
     static final String PARSE_STREAM = "parseStream";
+    static final String PARSE_FILE = "parseFile";
+    static final String PARSE_LINES = "parseLines";
     static final String NAME = "Name";
     static final String JSONDATA = "jsondata";
     static final String BALLERINA = "ballerina";
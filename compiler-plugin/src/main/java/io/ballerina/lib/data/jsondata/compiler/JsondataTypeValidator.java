@@ -202,7 +202,8 @@ public class JsondataTypeValidator implements AnalysisTask<SyntaxNodeAnalysisCon
         }
         String functionName = ((FunctionCallExpressionNode) expressionNode).functionName().toString().trim();
         return functionName.contains(Constants.PARSE_STRING) || functionName.contains(Constants.PARSE_BYTES)
-                || functionName.contains(Constants.PARSE_STREAM);
+                || functionName.contains(Constants.PARSE_STREAM) || functionName.contains(Constants.PARSE_FILE)
+                || functionName.contains(Constants.PARSE_LINES);
     }
 
     private void validateExpectedType(TypeSymbol typeSymbol, SyntaxNodeAnalysisContext ctx) {
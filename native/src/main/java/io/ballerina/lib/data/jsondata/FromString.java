@@ -20,6 +20,8 @@ package io.ballerina.lib.data.jsondata;
 
 import io.ballerina.lib.data.jsondata.utils.DiagnosticErrorCode;
 import io.ballerina.lib.data.jsondata.utils.DiagnosticLog;
+import io.ballerina.lib.data.jsondata.utils.FiniteTypeIndex;
+import io.ballerina.lib.data.jsondata.utils.TypeCache;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.FiniteType;
@@ -64,6 +66,19 @@ public class FromString {
         PredefinedTypes.TYPE_DECIMAL,
         PredefinedTypes.TYPE_STRING
     );
+    private static final List<Integer> NUMERIC_TYPE_TAGS = List.of(
+        TypeTags.INT_TAG,
+        TypeTags.BYTE_TAG,
+        TypeTags.SIGNED8_INT_TAG,
+        TypeTags.SIGNED16_INT_TAG,
+        TypeTags.SIGNED32_INT_TAG,
+        TypeTags.UNSIGNED8_INT_TAG,
+        TypeTags.UNSIGNED16_INT_TAG,
+        TypeTags.UNSIGNED32_INT_TAG,
+        TypeTags.FLOAT_TAG,
+        TypeTags.DECIMAL_TAG
+    );
+    private static final TypeCache<UnionType, UnionConverter> UNION_CONVERTERS = new TypeCache<>();
     private static final UnionType JSON_TYPE_WITH_BASIC_TYPES = TypeCreator.createUnionType(BASIC_JSON_MEMBER_TYPES);
     public static final Integer BBYTE_MIN_VALUE = 0;
     public static final Integer BBYTE_MAX_VALUE = 255;
@@ -78,6 +93,22 @@ public class FromString {
     public static final Integer UNSIGNED8_MAX_VALUE = 255;
 
     public static Object fromStringWithType(BString string, Type expType) {
+        Object result = convert(string, expType);
+        if (result instanceof Failure failure) {
+            if (failure.outOfRange()) {
+                // A value out of the range of the expected type has always been raised rather than returned.
+                throw failure.toError();
+            }
+            return failure.toError();
+        }
+        return result;
+    }
+
+    /**
+     * Converts the string to the expected type. A failed conversion is returned as a {@link Failure}, so that the
+     * error is created only when it is reported rather than for each member of a union that is tried.
+     */
+    private static Object convert(BString string, Type expType) {
         String value = string.getValue();
         try {
             switch (expType.getTag()) {
@@ -117,100 +148,88 @@ public class FromString {
                 case TypeTags.ANYDATA_TAG:
                     return stringToUnion(string, JSON_TYPE_WITH_BASIC_TYPES);
                 case TypeTags.TYPE_REFERENCED_TYPE_TAG:
-                    return fromStringWithType(string, ((ReferenceType) expType).getReferredType());
+                    return convert(string, ((ReferenceType) expType).getReferredType());
                 case TypeTags.INTERSECTION_TAG:
-                    return fromStringWithType(string, ((IntersectionType) expType).getEffectiveType());
+                    return convert(string, ((IntersectionType) expType).getEffectiveType());
                 default:
-                    return returnError(value, expType.toString());
+                    return new Failure(value, expType);
             }
         } catch (NumberFormatException e) {
-            return returnError(value, expType.toString());
+            return new Failure(value, expType);
         }
     }
 
     private static Object stringToFiniteType(String value, FiniteType finiteType) {
-        return finiteType.getValueSpace().stream()
-                .filter(finiteValue -> !(convertToSingletonValue(value, finiteValue) instanceof BError))
-                .findFirst()
-                .orElseGet(() -> returnError(value, finiteType.toString()));
-    }
-
-    private static Object convertToSingletonValue(String str, Object singletonValue) {
-        String singletonStr = String.valueOf(singletonValue);
-        if (str.equals(singletonStr)) {
-            return fromStringWithType(StringUtils.fromString(str), TypeUtils.getType(singletonValue));
-        } else {
-            return returnError(str, singletonStr);
+        Object singletonValue = FiniteTypeIndex.of(finiteType).get(value);
+        if (FiniteTypeIndex.isNoValue(singletonValue)) {
+            return new Failure(value, finiteType);
         }
+        return singletonValue;
     }
 
     private static Long stringToInt(String value) throws NumberFormatException {
         return Long.parseLong(value);
     }
 
-    private static int stringToByte(String value) throws NumberFormatException {
+    private static Object stringToByte(String value) throws NumberFormatException {
         int intValue = Integer.parseInt(value);
         if (!isByteLiteral(intValue)) {
-            throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, PredefinedTypes.TYPE_BYTE, value);
+            return Failure.outOfRange(value, PredefinedTypes.TYPE_BYTE);
         }
         return intValue;
     }
 
-    private static long stringToSigned8Int(String value) throws NumberFormatException {
+    private static Object stringToSigned8Int(String value) throws NumberFormatException {
         long intValue = Long.parseLong(value);
         if (!isSigned8LiteralValue(intValue)) {
-            throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, PredefinedTypes.TYPE_INT_SIGNED_8, value);
+            return Failure.outOfRange(value, PredefinedTypes.TYPE_INT_SIGNED_8);
         }
         return intValue;
     }
 
-    private static long stringToSigned16Int(String value) throws NumberFormatException {
+    private static Object stringToSigned16Int(String value) throws NumberFormatException {
         long intValue = Long.parseLong(value);
         if (!isSigned16LiteralValue(intValue)) {
-            throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, PredefinedTypes.TYPE_INT_SIGNED_16, value);
+            return Failure.outOfRange(value, PredefinedTypes.TYPE_INT_SIGNED_16);
         }
         return intValue;
     }
 
-    private static long stringToSigned32Int(String value) throws NumberFormatException {
+    private static Object stringToSigned32Int(String value) throws NumberFormatException {
         long intValue = Long.parseLong(value);
         if (!isSigned32LiteralValue(intValue)) {
-            throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, PredefinedTypes.TYPE_INT_SIGNED_32, value);
+            return Failure.outOfRange(value, PredefinedTypes.TYPE_INT_SIGNED_32);
         }
         return intValue;
     }
 
-    private static long stringToUnsigned8Int(String value) throws NumberFormatException {
+    private static Object stringToUnsigned8Int(String value) throws NumberFormatException {
         long intValue = Long.parseLong(value);
         if (!isUnsigned8LiteralValue(intValue)) {
-            throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE,
-                    PredefinedTypes.TYPE_INT_UNSIGNED_8, value);
+            return Failure.outOfRange(value, PredefinedTypes.TYPE_INT_UNSIGNED_8);
         }
         return intValue;
     }
 
-    private static long stringToUnsigned16Int(String value) throws NumberFormatException {
+    private static Object stringToUnsigned16Int(String value) throws NumberFormatException {
         long intValue = Long.parseLong(value);
         if (!isUnsigned16LiteralValue(intValue)) {
-            throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE,
-                    PredefinedTypes.TYPE_INT_UNSIGNED_16, value);
+            return Failure.outOfRange(value, PredefinedTypes.TYPE_INT_UNSIGNED_16);
         }
         return intValue;
     }
 
-    private static long stringToUnsigned32Int(String value) throws NumberFormatException {
+    private static Object stringToUnsigned32Int(String value) throws NumberFormatException {
         long intValue = Long.parseLong(value);
         if (!isUnsigned32LiteralValue(intValue)) {
-            throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE,
-                    PredefinedTypes.TYPE_INT_UNSIGNED_32, value);
+            return Failure.outOfRange(value, PredefinedTypes.TYPE_INT_UNSIGNED_32);
         }
         return intValue;
     }
 
-    private static BString stringToChar(String value) throws NumberFormatException {
+    private static Object stringToChar(String value) {
         if (!isCharLiteralValue(value)) {
-            throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE,
-                    PredefinedTypes.TYPE_STRING_CHAR, value);
+            return Failure.outOfRange(value, PredefinedTypes.TYPE_STRING_CHAR);
         }
         return StringUtils.fromString(value);
     }
@@ -234,34 +253,18 @@ public class FromString {
         if ("false".equalsIgnoreCase(value) || "0".equalsIgnoreCase(value)) {
             return false;
         }
-        return returnError(value, "boolean");
+        return new Failure(value, "boolean");
     }
 
     private static Object stringToNull(String value) throws NumberFormatException {
         if ("null".equalsIgnoreCase(value) || "()".equalsIgnoreCase(value)) {
             return null;
         }
-        return returnError(value, "()");
+        return new Failure(value, "()");
     }
 
-    private static Object stringToUnion(BString string, UnionType expType) throws NumberFormatException {
-        List<Type> memberTypes = new ArrayList<>(expType.getMemberTypes());
-        memberTypes.sort(Comparator.comparingInt(t -> {
-            int index = TYPE_PRIORITY_ORDER.indexOf(TypeUtils.getReferredType(t).getTag());
-            return index == -1 ? Integer.MAX_VALUE : index;
-        }));
-        for (Type memberType : memberTypes) {
-            try {
-                Object result = fromStringWithType(string, memberType);
-                if (result instanceof BError) {
-                    continue;
-                }
-                return result;
-            } catch (Exception e) {
-                // Skip
-            }
-        }
-        return returnError(string.getValue(), expType.toString());
+    private static Object stringToUnion(BString string, UnionType expType) {
+        return UNION_CONVERTERS.get(expType, UnionConverter::new).convert(string, expType);
     }
 
     private static boolean hasFloatOrDecimalLiteralSuffix(String value) {
@@ -313,8 +316,104 @@ public class FromString {
         return value.codePoints().count() == 1;
     }
 
-    private static BError returnError(String string, String expType) {
-        return DiagnosticLog.error(DiagnosticErrorCode.CANNOT_CONVERT_TO_EXPECTED_TYPE,
-                PredefinedTypes.TYPE_STRING.getName(), string, expType);
+    /**
+     * Converter of strings to a union, which tries the members in the order of {@link #TYPE_PRIORITY_ORDER}. The
+     * order is computed once per union. The members which cannot convert a string of a given lexical class are left
+     * out up front, so that e.g. {@code true} does not try the numeric members and {@code 1.5} does not try the
+     * integer members.
+     */
+    private static final class UnionConverter {
+
+        private final Type[] members;
+        private final Type[] nonNumericMembers;
+        private final Type[] nonIntegerMembers;
+
+        UnionConverter(UnionType unionType) {
+            List<Type> memberTypes = new ArrayList<>(unionType.getMemberTypes());
+            memberTypes.sort(Comparator.comparingInt(t -> {
+                int index = TYPE_PRIORITY_ORDER.indexOf(TypeUtils.getReferredType(t).getTag());
+                return index == -1 ? Integer.MAX_VALUE : index;
+            }));
+            List<Type> nonNumeric = new ArrayList<>();
+            List<Type> nonInteger = new ArrayList<>();
+            for (Type memberType : memberTypes) {
+                int tag = TypeUtils.getReferredType(memberType).getTag();
+                if (!NUMERIC_TYPE_TAGS.contains(tag)) {
+                    nonNumeric.add(memberType);
+                }
+                if (tag == TypeTags.FLOAT_TAG || tag == TypeTags.DECIMAL_TAG || !NUMERIC_TYPE_TAGS.contains(tag)) {
+                    nonInteger.add(memberType);
+                }
+            }
+            this.members = memberTypes.toArray(new Type[0]);
+            this.nonNumericMembers = nonNumeric.toArray(new Type[0]);
+            this.nonIntegerMembers = nonInteger.toArray(new Type[0]);
+        }
+
+        Object convert(BString string, UnionType expType) {
+            String value = string.getValue();
+            Type[] memberTypes = isWord(value) ? nonNumericMembers
+                    : hasFractionOrExponent(value) ? nonIntegerMembers : members;
+            for (Type memberType : memberTypes) {
+                try {
+                    Object result = FromString.convert(string, memberType);
+                    if (result instanceof Failure) {
+                        continue;
+                    }
+                    return result;
+                } catch (Exception e) {
+                    // Skip
+                }
+            }
+            return new Failure(value, expType);
+        }
+
+        private static boolean isWord(String value) {
+            if (value.isEmpty()) {
+                return false;
+            }
+            char ch = value.charAt(0);
+            if (ch == 'I' || ch == 'N') {
+                // Infinity and NaN are floats.
+                return false;
+            }
+            return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z');
+        }
+
+        private static boolean hasFractionOrExponent(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char ch = value.charAt(i);
+                if (ch == '.' || ch == 'e' || ch == 'E') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Failed conversion of a string to the expected type.
+     *
+     * @param value string which is converted
+     * @param expType expected type, or its name
+     * @param outOfRange whether the string is of the right form, but its value is not in the expected type
+     */
+    private record Failure(String value, Object expType, boolean outOfRange) {
+
+        Failure(String value, Object expType) {
+            this(value, expType, false);
+        }
+
+        static Failure outOfRange(String value, Type expType) {
+            return new Failure(value, expType, true);
+        }
+
+        BError toError() {
+            if (outOfRange) {
+                return DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, expType, value);
+            }
+            return DiagnosticLog.error(DiagnosticErrorCode.CANNOT_CONVERT_TO_EXPECTED_TYPE,
+                    PredefinedTypes.TYPE_STRING.getName(), value, expType.toString());
+        }
     }
 }
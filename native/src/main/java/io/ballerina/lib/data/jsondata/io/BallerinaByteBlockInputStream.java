@@ -18,6 +18,7 @@
 
 package io.ballerina.lib.data.jsondata.io;
 
+import io.ballerina.lib.data.jsondata.utils.Constants;
 import io.ballerina.lib.data.jsondata.utils.DiagnosticErrorCode;
 import io.ballerina.lib.data.jsondata.utils.DiagnosticLog;
 import io.ballerina.runtime.api.Environment;
@@ -31,23 +32,45 @@ import io.ballerina.runtime.api.values.BString;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Java Input Stream based on Ballerina byte block stream. <code>stream<byte[], error?></code>
+ * <p>
+ * Once the read-ahead is started, the blocks are fetched from the stream by a task of the read-ahead executor, which
+ * keeps up to the configured number of blocks ahead of the reader. The fetching of the blocks then overlaps with the
+ * parsing of the blocks already fetched.
  *
  * @since 0.1.0
  */
 public class BallerinaByteBlockInputStream extends InputStream {
 
+    private static final byte[] EMPTY_CHUNK = new byte[0];
+    // Marks the end of the stream in the read-ahead queue.
+    private static final byte[] END_OF_STREAM = new byte[0];
+
+    private static volatile int readAheadBlocks = 4;
+
     private final BObject iterator;
     private final Environment env;
     private final String nextMethodName;
     private boolean done = false;
     private final MethodType closeMethod;
 
-    private byte[] currentChunk = new byte[0];
+    private byte[] currentChunk = EMPTY_CHUNK;
     private int nextChunkIndex = 0;
     private BError error;
+    // Held while a method of the iterator is called, as the read-ahead task calls it as well.
+    private final ReentrantLock iteratorLock = new ReentrantLock();
+    private BlockingQueue<byte[]> readAheadQueue;
+    private Future<?> readAheadTask;
+    private volatile boolean readAheadStopped;
+    private volatile RuntimeException readAheadFailure;
 
     public BallerinaByteBlockInputStream(Environment env, BObject iterator, MethodType nextMethod,
                                          MethodType closeMethod) {
@@ -57,32 +80,147 @@ public class BallerinaByteBlockInputStream extends InputStream {
         this.closeMethod = closeMethod;
     }
 
+    /**
+     * Sets the number of blocks which are fetched ahead of the reader. The read-ahead is disabled if the number is
+     * not positive.
+     *
+     * @param blocks number of blocks
+     */
+    public static void setReadAheadBlocks(int blocks) {
+        readAheadBlocks = blocks;
+    }
+
+    /**
+     * Starts fetching the blocks ahead of the reader, if the read-ahead is enabled. Otherwise, or if the executor
+     * does not accept the task, the blocks are fetched by the reader as they are read.
+     */
+    public void startReadAhead() {
+        int blocks = readAheadBlocks;
+        if (blocks <= 0 || readAheadQueue != null) {
+            return;
+        }
+        BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(blocks);
+        try {
+            readAheadTask = DataReaderThreadPool.getReadAheadExecutor().submit(() -> fetchAhead(queue));
+            readAheadQueue = queue;
+        } catch (RejectedExecutionException e) {
+            // Read the blocks in the reader instead.
+        }
+    }
+
+    /**
+     * Stops fetching the blocks ahead of the reader. The blocks already fetched are discarded. This must be called
+     * once the stream is no longer read, so that the read-ahead task does not keep waiting for the reader. Once this
+     * returns, the read-ahead task no longer calls the iterator, hence the stream can be closed or read by the caller.
+     */
+    public void stopReadAhead() {
+        if (readAheadQueue == null) {
+            return;
+        }
+        readAheadStopped = true;
+        readAheadTask.cancel(false);
+        // Makes room for the block being fetched, after which the task sees that the read-ahead is stopped.
+        readAheadQueue.clear();
+        // Waits for the block being fetched, if any, as the task checks the flag before each fetch under the lock.
+        iteratorLock.lock();
+        iteratorLock.unlock();
+    }
+
+    private void fetchAhead(BlockingQueue<byte[]> queue) {
+        byte[] block;
+        do {
+            iteratorLock.lock();
+            try {
+                if (readAheadStopped) {
+                    return;
+                }
+                byte[] fetchedBlock = fetchBlock();
+                block = fetchedBlock == null ? END_OF_STREAM : fetchedBlock;
+            } catch (RuntimeException e) {
+                readAheadFailure = e;
+                block = END_OF_STREAM;
+            } finally {
+                iteratorLock.unlock();
+            }
+            try {
+                queue.put(block);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        } while (block != END_OF_STREAM);
+    }
+
     @Override
     public int read() {
-        if (done) {
+        if (!fillCurrentChunk()) {
+            return -1;
+        }
+        return currentChunk[nextChunkIndex++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!fillCurrentChunk()) {
             return -1;
         }
-        if (hasBytesInCurrentChunk()) {
-            return currentChunk[nextChunkIndex++];
+        int count = Math.min(len, currentChunk.length - nextChunkIndex);
+        System.arraycopy(currentChunk, nextChunkIndex, b, off, count);
+        nextChunkIndex += count;
+        return count;
+    }
+
+    /**
+     * Reads the rest of the current block of the stream, or the next block if the current block is fully read. The
+     * block is handed over as it is, without being copied, hence it must not be modified.
+     *
+     * @return bytes of the block or {@code null} at the end of the stream
+     */
+    public byte[] readBlock() {
+        if (!fillCurrentChunk()) {
+            return null;
         }
-        // Need to get a new block from the stream, before reading again.
-        nextChunkIndex = 0;
-        try {
-            if (readNextChunk()) {
-                return read();
+        byte[] block = nextChunkIndex == 0 ? currentChunk
+                : Arrays.copyOfRange(currentChunk, nextChunkIndex, currentChunk.length);
+        nextChunkIndex = currentChunk.length;
+        return block;
+    }
+
+    /**
+     * Ensures that the current block has bytes to read, by fetching blocks from the stream as needed.
+     *
+     * @return whether there are bytes to read
+     */
+    private boolean fillCurrentChunk() {
+        while (!done && !hasBytesInCurrentChunk()) {
+            // Need to get a new block from the stream, before reading again.
+            currentChunk = EMPTY_CHUNK;
+            nextChunkIndex = 0;
+            try {
+                readNextChunk();
+            } catch (InterruptedException e) {
+                this.error = DiagnosticLog.error(DiagnosticErrorCode.CAN_NOT_READ_STREAM);
+                return false;
             }
-        } catch (InterruptedException e) {
-            this.error = DiagnosticLog.error(DiagnosticErrorCode.CAN_NOT_READ_STREAM);
-            return -1;
         }
-        return -1;
+        return !done;
     }
 
     @Override
     public void close() throws IOException {
         super.close();
+        stopReadAhead();
         if (closeMethod != null) {
-            env.getRuntime().callMethod(iterator, closeMethod.getName(), null);
+            iteratorLock.lock();
+            try {
+                env.getRuntime().callMethod(iterator, closeMethod.getName(), null);
+            } finally {
+                iteratorLock.unlock();
+            }
         }
     }
 
@@ -90,26 +228,35 @@ public class BallerinaByteBlockInputStream extends InputStream {
         return currentChunk.length != 0 && nextChunkIndex < currentChunk.length;
     }
 
-    private boolean readNextChunk() throws InterruptedException {
+    private void readNextChunk() throws InterruptedException {
+        byte[] block = readAheadQueue != null ? readAheadQueue.take() : fetchBlock();
+        if (block == null || block == END_OF_STREAM) {
+            done = true;
+            if (readAheadFailure != null) {
+                throw readAheadFailure;
+            }
+            return;
+        }
+        currentChunk = block;
+    }
+
+    /**
+     * Fetches the next block from the stream.
+     *
+     * @return bytes of the block or {@code null} at the end of the stream or if the stream returns an error
+     */
+    private byte[] fetchBlock() {
         try {
             Object result = env.getRuntime().callMethod(iterator, nextMethodName, null);
-            if (result == null) {
-                done = true;
-                return true;
-            }
             if (result instanceof BMap<?, ?>) {
                 BMap<BString, Object> valueRecord = (BMap<BString, Object>) result;
-                final BString value = Arrays.stream(valueRecord.getKeys()).findFirst().get();
-                final BArray arrayValue = valueRecord.getArrayValue(value);
-                currentChunk = arrayValue.getByteArray();
-            } else {
-                done = true;
+                final BArray arrayValue = valueRecord.getArrayValue(Constants.VALUE);
+                return arrayValue.getByteArray();
             }
         } catch (BError bError) {
-            done = true;
-            currentChunk = new byte[0];
+            // The end of the stream.
         }
-        return !done;
+        return null;
     }
 
     public BError getError() {
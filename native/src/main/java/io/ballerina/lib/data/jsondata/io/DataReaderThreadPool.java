@@ -18,6 +18,9 @@
 package io.ballerina.lib.data.jsondata.io;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -30,13 +33,56 @@ import java.util.concurrent.TimeUnit;
  */
 public class DataReaderThreadPool {
 
-    // TODO : Make this configurable, in Ballerina Library.
     private static final int CORE_POOL_SIZE = 0;
-    private static final int MAX_POOL_SIZE = 50;
+    // Configured with the streamReadAheadPoolSize configurable when the module is initialized.
+    private static final int DEFAULT_MAX_POOL_SIZE = 50;
     private static final long KEEP_ALIVE_TIME = 60L;
     private static final String THREAD_NAME = "bal-data-jsondata-thread";
-    public static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(CORE_POOL_SIZE,
-            MAX_POOL_SIZE, KEEP_ALIVE_TIME, TimeUnit.SECONDS, new SynchronousQueue<>(), new DataThreadFactory());
+    private static final String WORKER_THREAD_NAME = "bal-data-jsondata-worker-";
+    private static final String READ_AHEAD_THREAD_NAME = "bal-data-jsondata-read-ahead-";
+    public static final ThreadPoolExecutor EXECUTOR_SERVICE = new ThreadPoolExecutor(CORE_POOL_SIZE,
+            DEFAULT_MAX_POOL_SIZE, KEEP_ALIVE_TIME, TimeUnit.SECONDS, new SynchronousQueue<>(), new DataThreadFactory());
+    // Executor for the tasks which mostly wait for I/O, e.g. the read-ahead of the streams.
+    public static final ExecutorService VIRTUAL_THREAD_EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(READ_AHEAD_THREAD_NAME, 0).factory());
+    private static volatile ExecutorService readAheadExecutor = VIRTUAL_THREAD_EXECUTOR;
+    // Pool for the CPU bound parsing work split across cores.
+    public static final ForkJoinPool FORK_JOIN_POOL = createForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Returns the executor which runs the read-ahead of the streams.
+     *
+     * @return the read-ahead executor
+     */
+    public static ExecutorService getReadAheadExecutor() {
+        return readAheadExecutor;
+    }
+
+    /**
+     * Sets the executor which runs the read-ahead of the streams, which is the virtual thread executor by default.
+     *
+     * @param executor the read-ahead executor
+     */
+    public static void setReadAheadExecutor(ExecutorService executor) {
+        readAheadExecutor = executor;
+    }
+
+    /**
+     * Sets the maximum number of threads of the pool of platform threads.
+     *
+     * @param maxPoolSize maximum number of threads, which is at least one
+     */
+    public static void setMaxPoolSize(int maxPoolSize) {
+        EXECUTOR_SERVICE.setMaximumPoolSize(maxPoolSize);
+    }
+
+    private static ForkJoinPool createForkJoinPool(int parallelism) {
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setName(WORKER_THREAD_NAME + worker.getPoolIndex());
+            return worker;
+        }, null, false);
+    }
 
     /**
      * Thread factory for data reader.
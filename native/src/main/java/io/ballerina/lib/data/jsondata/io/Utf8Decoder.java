@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Incremental UTF-8 decoder which validates the input inline and writes the decoded characters straight into a
+ * caller owned buffer. ASCII runs are copied without any lookup. A multi-byte sequence split across two input blocks
+ * is carried over to the next call, so the decoder can be fed with arbitrary slices of a stream.
+ * Malformed sequences are replaced with U+FFFD, which matches the behaviour of {@link java.io.InputStreamReader}.
+ *
+ * @since 1.1.4
+ */
+public class Utf8Decoder {
+
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    private final byte[] pending = new byte[4];
+    private int pendingCount = 0;
+    private int position = 0;
+    private byte[] block;
+
+    /**
+     * Decodes the bytes in {@code src} from {@code from} (inclusive) to {@code to} (exclusive) into {@code dst}.
+     * Decoding stops when the input is exhausted or when {@code dst} cannot hold another code point. Use
+     * {@link #position()} to find the index of the first byte which was not consumed.
+     *
+     * @param src  source bytes
+     * @param from index of the first byte to decode
+     * @param to   index after the last byte to decode
+     * @param dst  destination character buffer, must be able to hold at least two characters
+     * @return number of characters written to {@code dst}
+     */
+    public int decode(byte[] src, int from, int to, char[] dst) {
+        int i = from;
+        int j = 0;
+        int limit = dst.length - 1;
+        if (pendingCount > 0) {
+            int lead = pending[0] & 0xFF;
+            int length = sequenceLength(lead);
+            while (pendingCount < length && i < to && isContinuation(lead, pendingCount, src[i] & 0xFF)) {
+                pending[pendingCount++] = src[i++];
+            }
+            if (pendingCount == length) {
+                j = writeCodePoint(decodeCodePoint(pending, 0, length), dst, j);
+                pendingCount = 0;
+            } else if (i < to) {
+                dst[j++] = REPLACEMENT_CHAR;
+                pendingCount = 0;
+            } else {
+                position = i;
+                return j;
+            }
+        }
+
+        while (i < to && j < limit) {
+            byte b = src[i];
+            if (b >= 0) {
+                dst[j++] = (char) b;
+                i++;
+                continue;
+            }
+
+            int lead = b & 0xFF;
+            int length = sequenceLength(lead);
+            if (length == 0) {
+                dst[j++] = REPLACEMENT_CHAR;
+                i++;
+                continue;
+            }
+
+            int k = 1;
+            while (k < length && i + k < to && isContinuation(lead, k, src[i + k] & 0xFF)) {
+                k++;
+            }
+            if (k == length) {
+                j = writeCodePoint(decodeCodePoint(src, i, length), dst, j);
+                i += length;
+            } else if (i + k == to) {
+                // Sequence continues in the next block.
+                System.arraycopy(src, i, pending, 0, k);
+                pendingCount = k;
+                i = to;
+            } else {
+                dst[j++] = REPLACEMENT_CHAR;
+                i += k;
+            }
+        }
+        position = i;
+        return j;
+    }
+
+    /**
+     * Decodes the remaining bytes of {@code src} into {@code dst}. The bytes of a heap buffer are read in place, and
+     * the bytes of a direct buffer, e.g. of a memory mapped file, are copied in blocks. Decoding stops when the input
+     * is exhausted or when {@code dst} cannot hold another code point. The position of {@code src} is advanced past
+     * the consumed bytes.
+     *
+     * @param src source bytes
+     * @param dst destination character buffer, must be able to hold at least two characters
+     * @return number of characters written to {@code dst}
+     */
+    public int decode(ByteBuffer src, char[] dst) {
+        int start = src.position();
+        if (src.hasArray()) {
+            int base = src.arrayOffset();
+            int count = decode(src.array(), base + start, base + src.limit(), dst);
+            src.position(position - base);
+            return count;
+        }
+
+        // Bytes outside the heap are copied in blocks, as reading them one at a time is much slower.
+        int length = Math.min(src.remaining(), dst.length);
+        if (block == null || block.length < length) {
+            block = new byte[length];
+        }
+        src.get(start, block, 0, length);
+        int count = decode(block, 0, length, dst);
+        src.position(start + position);
+        return count;
+    }
+
+    /**
+     * Completes decoding. A truncated sequence left at the end of the input is written as U+FFFD.
+     *
+     * @param dst destination character buffer
+     * @return number of characters written to {@code dst}
+     */
+    public int flush(char[] dst) {
+        if (pendingCount == 0) {
+            return 0;
+        }
+        pendingCount = 0;
+        dst[0] = REPLACEMENT_CHAR;
+        return 1;
+    }
+
+    /**
+     * Returns the index of the first source byte which was not consumed by the last call to
+     * {@link #decode(byte[], int, int, char[])}.
+     *
+     * @return index of the next byte to decode
+     */
+    public int position() {
+        return position;
+    }
+
+    public void reset() {
+        pendingCount = 0;
+        position = 0;
+    }
+
+    private static int sequenceLength(int lead) {
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            return 2;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            return 3;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            return 4;
+        }
+        return 0;
+    }
+
+    private static boolean isContinuation(int lead, int index, int b) {
+        if (index == 1) {
+            switch (lead) {
+                case 0xE0:
+                    return b >= 0xA0 && b <= 0xBF;
+                case 0xF0:
+                    return b >= 0x90 && b <= 0xBF;
+                case 0xF4:
+                    return b >= 0x80 && b <= 0x8F;
+                default:
+                    break;
+            }
+        }
+        return b >= 0x80 && b <= 0xBF;
+    }
+
+    private static int decodeCodePoint(byte[] bytes, int start, int length) {
+        int lead = bytes[start] & 0xFF;
+        switch (length) {
+            case 2:
+                return ((lead & 0x1F) << 6) | (bytes[start + 1] & 0x3F);
+            case 3:
+                return ((lead & 0x0F) << 12) | ((bytes[start + 1] & 0x3F) << 6) | (bytes[start + 2] & 0x3F);
+            default:
+                return ((lead & 0x07) << 18) | ((bytes[start + 1] & 0x3F) << 12) | ((bytes[start + 2] & 0x3F) << 6)
+                        | (bytes[start + 3] & 0x3F);
+        }
+    }
+
+    private static int writeCodePoint(int codePoint, char[] dst, int j) {
+        if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            // Encoded surrogates are malformed, reported as a single sequence similar to the JDK decoder.
+            dst[j++] = REPLACEMENT_CHAR;
+        } else if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            dst[j++] = (char) codePoint;
+        } else {
+            dst[j++] = Character.highSurrogate(codePoint);
+            dst[j++] = Character.lowSurrogate(codePoint);
+        }
+        return j;
+    }
+}
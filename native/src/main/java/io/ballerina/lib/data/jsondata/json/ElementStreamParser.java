@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.json;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Push parser for a JSON document which is an array, which hands over each element of the array as soon as it is
+ * parsed instead of building the array. Only the elements completed by the chunks fed so far and not yet taken are
+ * retained, hence the caller bounds the memory used by taking the elements before feeding the next chunk.
+ *
+ * @since 1.1.4
+ */
+public class ElementStreamParser extends PushParser {
+
+    private final Deque<Object> elements;
+
+    public ElementStreamParser(BMap<BString, Object> options, BTypedesc typed) {
+        this(options, typed, new ArrayDeque<>());
+    }
+
+    private ElementStreamParser(BMap<BString, Object> options, BTypedesc typed, Deque<Object> elements) {
+        super(options, typed, TypeCreator.createArrayType(typed.getDescribingType()), elements::add);
+        this.elements = elements;
+    }
+
+    public synchronized boolean hasNextElement() {
+        return !elements.isEmpty();
+    }
+
+    /**
+     * Removes and returns the next parsed element of the array.
+     *
+     * @return the element or an error if the element does not satisfy the constraints of the expected type
+     */
+    public synchronized Object nextElement() {
+        return super.complete(elements.poll());
+    }
+
+    @Override
+    Object complete(Object value) {
+        // The elements are already handed over, hence there is nothing to return for the array.
+        return null;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.json;
+
+import io.ballerina.lib.data.jsondata.utils.Constants;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.ReferenceType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Bounds of a record field which are checked while the field is parsed, so that the parsing fails at the first value
+ * which violates them. Only the bounds of the {@code constraint:Int}, {@code constraint:Float},
+ * {@code constraint:String} and {@code constraint:Array} annotations are compiled, and only when a value can violate
+ * at most one of them. The constraints which are not compiled are validated once the value is parsed.
+ *
+ * @since 1.1.4
+ */
+final class FieldConstraint {
+
+    private static final String LENGTH = "length";
+    private static final String MIN_LENGTH = "minLength";
+    private static final String MAX_LENGTH = "maxLength";
+    private static final String MIN_VALUE = "minValue";
+    private static final String MAX_VALUE = "maxValue";
+    private static final String MIN_VALUE_EXCLUSIVE = "minValueExclusive";
+    private static final String MAX_VALUE_EXCLUSIVE = "maxValueExclusive";
+
+    private enum Kind {
+        INT, FLOAT, STRING, ARRAY
+    }
+
+    private final Kind kind;
+    private final String lowerName;
+    private final Number lower;
+    private final boolean lowerExclusive;
+    private final String upperName;
+    private final Number upper;
+    private final boolean upperExclusive;
+
+    private FieldConstraint(Kind kind, String lowerName, Number lower, boolean lowerExclusive, String upperName,
+                            Number upper, boolean upperExclusive) {
+        this.kind = kind;
+        this.lowerName = lowerName;
+        this.lower = lower;
+        this.lowerExclusive = lowerExclusive;
+        this.upperName = upperName;
+        this.upper = upper;
+        this.upperExclusive = upperExclusive;
+    }
+
+    /**
+     * Compiles the constraint of the given record field from the annotations of the field and of the types it
+     * refers to.
+     *
+     * @param field record field
+     * @param fieldAnnotations annotations of the field or {@code null}
+     * @return the compiled constraint or {@code null} if the field has no constraint which can be compiled
+     */
+    @SuppressWarnings("unchecked")
+    static FieldConstraint of(Field field, BMap<BString, Object> fieldAnnotations) {
+        BMap<BString, Object>[] annotation = new BMap[1];
+        String[] annotationName = new String[1];
+        int count = collectConstraintAnnotations(fieldAnnotations, annotation, annotationName);
+        Type type = field.getFieldType();
+        while (type instanceof ReferenceType referenceType) {
+            count += collectConstraintAnnotations(referenceType.getAnnotations(), annotation, annotationName);
+            type = referenceType.getReferredType();
+        }
+        if (count != 1 || annotation[0] == null) {
+            return null;
+        }
+
+        Kind kind;
+        switch (annotationName[0]) {
+            case "Int" -> kind = Kind.INT;
+            case "Float" -> kind = Kind.FLOAT;
+            case "String" -> kind = Kind.STRING;
+            case "Array" -> kind = Kind.ARRAY;
+            default -> {
+                return null;
+            }
+        }
+        return compile(kind, annotation[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int collectConstraintAnnotations(BMap<BString, Object> annotations,
+                                                    BMap<BString, Object>[] annotation, String[] annotationName) {
+        if (annotations == null) {
+            return 0;
+        }
+        int count = 0;
+        for (BString annotationKey : annotations.getKeys()) {
+            String keyStr = annotationKey.getValue();
+            if (!keyStr.startsWith(Constants.CONSTRAINT_MODULE_PREFIX)) {
+                continue;
+            }
+            count++;
+            annotationName[0] = keyStr.substring(keyStr.lastIndexOf(':') + 1);
+            annotation[0] = annotations.get(annotationKey) instanceof BMap<?, ?> value
+                    ? (BMap<BString, Object>) value : null;
+        }
+        return count;
+    }
+
+    private static FieldConstraint compile(Kind kind, BMap<BString, Object> annotation) {
+        boolean isNumeric = kind == Kind.INT || kind == Kind.FLOAT;
+        String lowerName = null;
+        Number lower = null;
+        boolean lowerExclusive = false;
+        String upperName = null;
+        Number upper = null;
+        boolean upperExclusive = false;
+        for (BString key : annotation.getKeys()) {
+            String name = key.getValue();
+            Object bound = annotation.get(key);
+            // Bounds given along with a message are reported with the message, hence left to the validation.
+            if (kind == Kind.FLOAT ? !(bound instanceof Double value) || value.isNaN() : !(bound instanceof Long)) {
+                return null;
+            }
+            boolean isLower;
+            boolean isUpper;
+            switch (name) {
+                case MIN_VALUE, MIN_VALUE_EXCLUSIVE -> {
+                    isLower = isNumeric;
+                    isUpper = false;
+                }
+                case MAX_VALUE, MAX_VALUE_EXCLUSIVE -> {
+                    isLower = false;
+                    isUpper = isNumeric;
+                }
+                case MIN_LENGTH -> {
+                    isLower = !isNumeric;
+                    isUpper = false;
+                }
+                case MAX_LENGTH -> {
+                    isLower = false;
+                    isUpper = !isNumeric;
+                }
+                case LENGTH -> {
+                    isLower = !isNumeric;
+                    isUpper = !isNumeric;
+                }
+                default -> {
+                    return null;
+                }
+            }
+            if (!isLower && !isUpper || isLower && lowerName != null || isUpper && upperName != null) {
+                return null;
+            }
+            if (isLower) {
+                lowerName = name;
+                lower = (Number) bound;
+                lowerExclusive = name.equals(MIN_VALUE_EXCLUSIVE);
+            }
+            if (isUpper) {
+                upperName = name;
+                upper = (Number) bound;
+                upperExclusive = name.equals(MAX_VALUE_EXCLUSIVE);
+            }
+        }
+
+        if (lowerName == null && upperName == null) {
+            return null;
+        }
+        if (lowerName != null && upperName != null && !LENGTH.equals(lowerName)) {
+            // A value violating both bounds is reported with both of them.
+            double min = lower.doubleValue();
+            double max = upper.doubleValue();
+            if (min > max || min == max && (lowerExclusive || upperExclusive)) {
+                return null;
+            }
+        }
+        return new FieldConstraint(kind, lowerName, lower, lowerExclusive, upperName, upper, upperExclusive);
+    }
+
+    /**
+     * Checks the given field value against the bounds.
+     *
+     * @param value converted value of the field
+     * @return name of the violated bound or {@code null} if the value satisfies the bounds
+     */
+    String check(Object value) {
+        return switch (kind) {
+            case INT -> value instanceof Long || value instanceof Integer
+                    ? checkBounds(((Number) value).longValue()) : null;
+            case FLOAT -> value instanceof Double doubleValue && !doubleValue.isNaN()
+                    ? checkBounds(doubleValue.doubleValue()) : null;
+            case STRING -> value instanceof BString stringValue ? checkBounds(stringValue.length()) : null;
+            case ARRAY -> value instanceof BArray arrayValue ? checkBounds(arrayValue.getLength()) : null;
+        };
+    }
+
+    /**
+     * Checks the number of elements added so far to an array field against the upper bound of its length.
+     *
+     * @param length number of elements of the array
+     * @return name of the violated bound or {@code null} if the array is not longer than the bound
+     */
+    String checkMaxLength(long length) {
+        if (kind != Kind.ARRAY || upperName == null || length <= upper.longValue()) {
+            return null;
+        }
+        return upperName;
+    }
+
+    private String checkBounds(long value) {
+        if (lowerName != null && (lowerExclusive ? value <= lower.longValue() : value < lower.longValue())) {
+            return lowerName;
+        }
+        if (upperName != null && (upperExclusive ? value >= upper.longValue() : value > upper.longValue())) {
+            return upperName;
+        }
+        return null;
+    }
+
+    private String checkBounds(double value) {
+        if (lowerName != null && (lowerExclusive ? value <= lower.doubleValue() : value < lower.doubleValue())) {
+            return lowerName;
+        }
+        if (upperName != null && (upperExclusive ? value >= upper.doubleValue() : value > upper.doubleValue())) {
+            return upperName;
+        }
+        return null;
+    }
+}
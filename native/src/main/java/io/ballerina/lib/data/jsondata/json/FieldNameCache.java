@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.json;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Bounded table which interns the field names read by a parser, so that a field name repeated across the objects
+ * of a document, or across documents, is represented by a single {@link BString}. Lookups are done on the raw
+ * characters, hence a hit does not allocate. The table is not thread safe and is owned by a single parser.
+ *
+ * @since 1.1.4
+ */
+class FieldNameCache {
+
+    private static final int CAPACITY = 1024;
+    private static final int MAX_PROBES = 4;
+    private static final int MAX_NAME_LENGTH = 64;
+
+    private final int[] hashes = new int[CAPACITY];
+    private final String[] names = new String[CAPACITY];
+    private final BString[] keys = new BString[CAPACITY];
+
+    /**
+     * Returns the field name formed by the first {@code length} characters of {@code buff}.
+     *
+     * @param buff   buffer holding the field name
+     * @param length length of the field name
+     * @return the interned field name
+     */
+    BString intern(char[] buff, int length) {
+        if (length > MAX_NAME_LENGTH) {
+            return StringUtils.fromString(new String(buff, 0, length));
+        }
+
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buff[i];
+        }
+
+        int mask = CAPACITY - 1;
+        int slot = spread(hash) & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int index = (slot + probe) & mask;
+            String name = names[index];
+            if (name == null) {
+                return add(index, hash, buff, length);
+            }
+            if (hashes[index] == hash && matches(name, buff, length)) {
+                return keys[index];
+            }
+        }
+        // Evict the entry at the home slot when the probe sequence is full.
+        return add(slot, hash, buff, length);
+    }
+
+    private BString add(int index, int hash, char[] buff, int length) {
+        String name = new String(buff, 0, length);
+        BString key = StringUtils.fromString(name);
+        hashes[index] = hash;
+        names[index] = name;
+        keys[index] = key;
+        return key;
+    }
+
+    private static boolean matches(String name, char[] buff, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != buff[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
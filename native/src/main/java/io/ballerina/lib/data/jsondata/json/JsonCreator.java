@@ -22,6 +22,8 @@ import io.ballerina.lib.data.jsondata.FromString;
 import io.ballerina.lib.data.jsondata.utils.Constants;
 import io.ballerina.lib.data.jsondata.utils.DiagnosticErrorCode;
 import io.ballerina.lib.data.jsondata.utils.DiagnosticLog;
+import io.ballerina.lib.data.jsondata.utils.FiniteTypeIndex;
+import io.ballerina.lib.data.jsondata.utils.TypeCache;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.flags.SymbolFlags;
@@ -41,6 +43,7 @@ import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.runtime.api.values.BString;
 import org.ballerinalang.langlib.value.CloneReadOnly;
 
@@ -68,6 +71,7 @@ public class JsonCreator {
     );
     private static final UnionType UNION_OF_BASIC_TYPE_WITHOUT_STRING =
             TypeCreator.createUnionType(BASIC_TYPE_MEMBER_TYPES);
+    private static final TypeCache<UnionType, UnionType> NON_STRING_UNION_TYPES = new TypeCache<>();
 
     static BMap<BString, Object> initRootMapValue(JsonParser.StateMachine sm) {
         Type expectedType = sm.expectedTypes.peek();
@@ -140,21 +144,21 @@ public class JsonCreator {
         BMap<BString, Object> nextMapValue;
         switch (currentType.getTag()) {
             case TypeTags.RECORD_TYPE_TAG -> {
-                RecordType recordType = (RecordType) currentType;
-                nextMapValue = ValueCreator.createRecordValue(expType.getPackage(), expType.getName());
-                sm.updateExpectedType(getAllFieldsInRecord(recordType), recordType.getRestFieldType());
+                RecordBindingPlan bindingPlan = RecordBindingPlan.of((RecordType) currentType);
+                nextMapValue = bindingPlan.createRecordValue();
+                sm.updateExpectedType(bindingPlan, bindingPlan.getRestType());
             }
             case TypeTags.MAP_TAG -> {
                 nextMapValue = ValueCreator.createMapValue((MapType) currentType);
-                sm.updateExpectedType(new HashMap<>(), ((MapType) currentType).getConstrainedType());
+                sm.updateExpectedType(RecordBindingPlan.EMPTY, ((MapType) currentType).getConstrainedType());
             }
             case TypeTags.JSON_TAG -> {
                 nextMapValue = ValueCreator.createMapValue(Constants.JSON_MAP_TYPE);
-                sm.updateExpectedType(new HashMap<>(), currentType);
+                sm.updateExpectedType(RecordBindingPlan.EMPTY, currentType);
             }
             case TypeTags.ANYDATA_TAG -> {
                 nextMapValue = ValueCreator.createMapValue(Constants.ANYDATA_MAP_TYPE);
-                sm.updateExpectedType(new HashMap<>(), currentType);
+                sm.updateExpectedType(RecordBindingPlan.EMPTY, currentType);
             }
             case TypeTags.INTERSECTION_TAG -> {
                 Optional<Type> mutableType = getMutableType((IntersectionType) currentType);
@@ -223,11 +227,11 @@ public class JsonCreator {
         return Optional.empty();
     }
 
-    private static String getCurrentFieldPath(JsonParser.StateMachine sm) {
-        Iterator<Stack<String>> itr = sm.fieldNameHierarchy.iterator();
-        StringBuilder result = new StringBuilder(itr.hasNext() ? itr.next().peek() : "");
+    static String getCurrentFieldPath(JsonParser.StateMachine sm) {
+        Iterator<Stack<BString>> itr = sm.fieldNameHierarchy.iterator();
+        StringBuilder result = new StringBuilder(itr.hasNext() ? itr.next().peek().getValue() : "");
         while (itr.hasNext()) {
-            result.append(".").append(itr.next().peek());
+            result.append(".").append(itr.next().peek().getValue());
         }
         return result.toString();
     }
@@ -235,7 +239,6 @@ public class JsonCreator {
     @SuppressWarnings("unchecked")
     static Object convertAndUpdateCurrentJsonNode(JsonParser.StateMachine sm, String value, Type type,
                                                   boolean isStringElement) {
-        Object currentJson = sm.currentJsonNode;
         if (sm.nilAsOptionalField && !type.isNilable() && value.equals(Constants.NULL_VALUE)
                 && sm.currentField != null && SymbolFlags.isFlagOn(sm.currentField.getFlags(), SymbolFlags.OPTIONAL)) {
                 return null;
@@ -250,18 +253,28 @@ public class JsonCreator {
             }
             throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, value);
         }
+        return updateCurrentJsonNode(sm, convertedValue);
+    }
 
+    @SuppressWarnings("unchecked")
+    static Object updateCurrentJsonNode(JsonParser.StateMachine sm, Object convertedValue) {
+        Object currentJson = sm.currentJsonNode;
         Type currentJsonNodeType = TypeUtils.getType(currentJson);
         switch (currentJsonNodeType.getTag()) {
-            case TypeTags.MAP_TAG, TypeTags.RECORD_TYPE_TAG ->
-                ((BMap<BString, Object>) currentJson).put(StringUtils.fromString(sm.fieldNameHierarchy.peek().pop()),
-                        convertedValue);
+            case TypeTags.MAP_TAG, TypeTags.RECORD_TYPE_TAG -> {
+                sm.checkFieldConstraint(convertedValue);
+                ((BMap<BString, Object>) currentJson).put(sm.fieldNameHierarchy.peek().pop(), convertedValue);
+            }
             case TypeTags.ARRAY_TAG -> {
+                if (sm.emitRootElement(convertedValue)) {
+                    break;
+                }
                 // Handle projection in array.
                 ArrayType arrayType = (ArrayType) currentJsonNodeType;
                 if (arrayType.getState() != ArrayType.ArrayState.CLOSED ||
                         arrayType.getSize() > sm.arrayIndexes.peek()) {
                     ((BArray) currentJson).add(sm.arrayIndexes.peek(), convertedValue);
+                    sm.checkArrayFieldLength((BArray) currentJson);
                 }
             }
             case TypeTags.TUPLE_TAG ->
@@ -292,11 +305,11 @@ public class JsonCreator {
                 return value;
             }
             case TypeTags.FINITE_TYPE_TAG -> {
-                return ((FiniteType) type).getValueSpace().stream()
-                        .filter(finiteValue -> !(convertToSingletonValue(value.getValue(), finiteValue, true)
-                                instanceof BError))
-                        .findFirst()
-                        .orElseGet(() -> DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, value));
+                Object singletonValue = FiniteTypeIndex.of((FiniteType) type).getString(value.getValue());
+                if (FiniteTypeIndex.isNoValue(singletonValue)) {
+                    return DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, value);
+                }
+                return singletonValue;
             }
             case TypeTags.UNION_TAG -> {
                 for (Type memberType : ((UnionType) type).getMemberTypes()) {
@@ -316,7 +329,11 @@ public class JsonCreator {
         }
     }
 
-    private static Object validateNonStringValueAndConvertToExpectedType(String value, Type type) {
+    static Object validateNonStringValueAndConvertToExpectedType(String value, Type type) {
+        if (value.isEmpty()) {
+            throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, value);
+        }
+
         char ch = value.charAt(0);
         if (ch == 't') {
             if (!Constants.TRUE.equals(value)) {
@@ -346,27 +363,16 @@ public class JsonCreator {
                 return DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, value);
             }
             case TypeTags.FINITE_TYPE_TAG -> {
-                return ((FiniteType) type).getValueSpace().stream()
-                        .filter(finiteValue -> !(convertToSingletonValue(value.getValue(),
-                                finiteValue, false) instanceof BError))
-                        .findFirst()
-                        .orElseGet(() -> DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, value));
+                Object singletonValue = FiniteTypeIndex.of((FiniteType) type).getNonString(value.getValue());
+                if (FiniteTypeIndex.isNoValue(singletonValue)) {
+                    return DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, value);
+                }
+                return singletonValue;
             }
             case TypeTags.UNION_TAG -> {
-                List<Type> newMembers = new ArrayList<>();
-                for (Type memberType : ((UnionType) type).getMemberTypes()) {
-                    int typeTag = memberType.getTag();
-                    if (typeTag == TypeTags.STRING_TAG) {
-                        continue;
-                    }
-
-                    if (typeTag == TypeTags.JSON_TAG || typeTag == TypeTags.ANYDATA_TAG) {
-                        newMembers.add(UNION_OF_BASIC_TYPE_WITHOUT_STRING);
-                    } else {
-                        newMembers.add(memberType);
-                    }
-                }
-                return FromString.fromStringWithType(value, TypeCreator.createUnionType(newMembers));
+                UnionType nonStringUnionType =
+                        NON_STRING_UNION_TYPES.get((UnionType) type, JsonCreator::createNonStringUnionType);
+                return FromString.fromStringWithType(value, nonStringUnionType);
             }
             case TypeTags.TYPE_REFERENCED_TYPE_TAG -> {
                 return convertNonStringToExpectedType(value, TypeUtils.getReferredType(type));
@@ -377,16 +383,21 @@ public class JsonCreator {
         }
     }
 
-    private static Object convertToSingletonValue(String str, Object singletonValue, boolean isStringElement) {
-        String singletonStr = String.valueOf(singletonValue);
-        if (str.equals(singletonStr)) {
-            BString value = StringUtils.fromString(str);
-            Type expType = TypeUtils.getType(singletonValue);
-            return isStringElement ?
-                    convertStringToExpectedType(value, expType) : convertNonStringToExpectedType(value, expType);
-        } else {
-            return DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, singletonValue, str);
+    private static UnionType createNonStringUnionType(UnionType unionType) {
+        List<Type> newMembers = new ArrayList<>();
+        for (Type memberType : unionType.getMemberTypes()) {
+            int typeTag = memberType.getTag();
+            if (typeTag == TypeTags.STRING_TAG) {
+                continue;
+            }
+
+            if (typeTag == TypeTags.JSON_TAG || typeTag == TypeTags.ANYDATA_TAG) {
+                newMembers.add(UNION_OF_BASIC_TYPE_WITHOUT_STRING);
+            } else {
+                newMembers.add(memberType);
+            }
         }
+        return TypeCreator.createUnionType(newMembers);
     }
 
     static Type getMemberType(Type expectedType, int index, boolean allowDataProjection) {
@@ -464,6 +475,20 @@ public class JsonCreator {
         return CloneReadOnly.cloneReadOnly(value);
     }
 
+    /**
+     * Makes the given value read-only in place, along with its members. Unlike {@link #constructReadOnlyValue}, the
+     * value is not copied, hence it must not be shared with the caller, e.g. a value created while parsing.
+     *
+     * @param value value to freeze
+     * @return the same value
+     */
+    static Object freezeValue(Object value) {
+        if (value instanceof BRefValue refValue && !refValue.isFrozen()) {
+            refValue.freezeDirect();
+        }
+        return value;
+    }
+
     static Object initRootArrayValue(JsonParser.StateMachine sm) {
         sm.parserContexts.push(JsonParser.StateMachine.ParserContext.ARRAY);
         Type expType = sm.expectedTypes.peek();
@@ -482,11 +507,6 @@ public class JsonCreator {
                 sm.arrayIndexes.peek(), sm.allowDataProjection));
     }
 
-    static void updateNextMapValueBasedOnExpType(JsonParser.StateMachine sm) {
-        updateExpectedType(sm);
-        updateNextMapValue(sm);
-    }
-
     static void updateNextArrayValueBasedOnExpType(JsonParser.StateMachine sm) {
         updateExpectedType(sm);
         updateNextArrayValue(sm);
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.json;
+
+import io.ballerina.lib.data.jsondata.io.DataReaderThreadPool;
+import io.ballerina.lib.data.jsondata.utils.Constants;
+import io.ballerina.lib.data.jsondata.utils.DiagnosticErrorCode;
+import io.ballerina.lib.data.jsondata.utils.DiagnosticLog;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Parser for newline-delimited JSON, i.e. JSON Lines, which binds the lines to the expected type in parallel.
+ * The input is split into segments of whole lines, and each segment is parsed by a fork-join task of the shared
+ * pool. When the parallelism is set, at most that many segments are parsed at a time, else at most twice the
+ * parallelism of the pool, which also bounds the segments read ahead of the parsing. Once a segment has failed, no
+ * further segment is submitted. The values are in the order of the lines, and blank lines are ignored.
+ *
+ * @since 1.1.4
+ */
+public class JsonLinesParser {
+
+    private static final int SEGMENT_SIZE = 1 << 16;
+    private static final byte NEWLINE = '\n';
+    private static final int SEGMENTS_PER_WORKER = 2;
+
+    private final BMap<BString, Object> options;
+    private final BTypedesc typed;
+    // Bounds the segments which are submitted but not yet parsed.
+    private final Semaphore permits;
+    private final List<ForkJoinTask<Segment>> tasks = new ArrayList<>();
+    private volatile boolean failed;
+
+    public JsonLinesParser(BMap<BString, Object> options, BTypedesc typed) {
+        this.options = options;
+        this.typed = typed;
+        long parallelism = (Long) options.get(Constants.PARALLELISM);
+        this.permits = new Semaphore(parallelism > 0 ? (int) Math.min(parallelism, Short.MAX_VALUE)
+                : DataReaderThreadPool.FORK_JOIN_POOL.getParallelism() * SEGMENTS_PER_WORKER);
+    }
+
+    /**
+     * Parses the JSON Lines in the given byte range.
+     *
+     * @param bytes  bytes which contain the JSON Lines
+     * @param offset index of the first byte
+     * @param length number of bytes
+     * @return array of the parsed values or an error
+     */
+    public Object parse(byte[] bytes, int offset, int length) {
+        try {
+            int end = offset + length;
+            int from = offset;
+            while (from < end) {
+                int to = nextSegmentEnd(bytes, from, end);
+                if (!submit(bytes, from, to)) {
+                    break;
+                }
+                from = to;
+            }
+            return collect();
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Parses the JSON Lines read from the given input stream. The segments are parsed while the stream is read.
+     *
+     * @param inputStream input stream which contains the JSON Lines
+     * @return array of the parsed values or an error
+     * @throws IOException if the stream cannot be read
+     */
+    public Object parse(InputStream inputStream) throws IOException {
+        try {
+            byte[] buff = new byte[SEGMENT_SIZE];
+            int filled = 0;
+            int count;
+            while ((count = inputStream.read(buff, filled, buff.length - filled)) != -1) {
+                filled += count;
+                if (filled < buff.length) {
+                    continue;
+                }
+                int end = lastLineEnd(buff, filled);
+                if (end == 0) {
+                    // The line does not fit in the buffer.
+                    buff = Arrays.copyOf(buff, buff.length * 2);
+                    continue;
+                }
+                // The segment is handed over to a task, hence the rest is moved to a new buffer.
+                byte[] next = new byte[Math.max(SEGMENT_SIZE, (filled - end) * 2)];
+                System.arraycopy(buff, end, next, 0, filled - end);
+                if (!submit(buff, 0, end)) {
+                    return collect();
+                }
+                buff = next;
+                filled -= end;
+            }
+            submit(buff, 0, filled);
+            return collect();
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Submits the given segment to be parsed, unless a segment submitted earlier has failed.
+     *
+     * @return whether the segment is submitted
+     */
+    private boolean submit(byte[] bytes, int from, int to) {
+        if (from == to) {
+            return true;
+        }
+        permits.acquireUninterruptibly();
+        if (failed) {
+            permits.release();
+            return false;
+        }
+        tasks.add(DataReaderThreadPool.FORK_JOIN_POOL.submit(() -> {
+            try {
+                Segment segment = parseSegment(bytes, from, to);
+                if (segment.error() != null) {
+                    failed = true;
+                }
+                return segment;
+            } finally {
+                permits.release();
+            }
+        }));
+        return true;
+    }
+
+    private Segment parseSegment(byte[] bytes, int from, int to) {
+        List<Object> values = new ArrayList<>();
+        int lineCount = 0;
+        int lineStart = from;
+        while (lineStart < to) {
+            int lineEnd = indexOfNewline(bytes, lineStart, to);
+            lineCount++;
+            if (!isBlank(bytes, lineStart, lineEnd)) {
+                Object value;
+                try {
+                    value = JsonParser.parse(bytes, lineStart, lineEnd - lineStart, options, typed);
+                } catch (BError e) {
+                    value = e;
+                }
+                if (value instanceof BError error) {
+                    return new Segment(values, lineCount, error);
+                }
+                values.add(value);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return new Segment(values, lineCount, null);
+    }
+
+    private Object collect() {
+        // The error of the first invalid line is reported, irrespective of the order in which the segments failed.
+        long lineCount = 0;
+        for (ForkJoinTask<Segment> task : tasks) {
+            Segment segment = task.join();
+            if (segment.error() != null) {
+                return DiagnosticLog.error(DiagnosticErrorCode.INVALID_JSON_LINE,
+                        String.valueOf(lineCount + segment.lineCount()), segment.error().getMessage());
+            }
+            lineCount += segment.lineCount();
+        }
+
+        BArray values = ValueCreator.createArrayValue(TypeCreator.createArrayType(typed.getDescribingType()));
+        long index = 0;
+        for (ForkJoinTask<Segment> task : tasks) {
+            for (Object value : task.join().values()) {
+                values.add(index++, value);
+            }
+        }
+        return values;
+    }
+
+    private void close() {
+        for (ForkJoinTask<Segment> task : tasks) {
+            task.cancel(false);
+        }
+    }
+
+    private static int nextSegmentEnd(byte[] bytes, int from, int end) {
+        int to = from + SEGMENT_SIZE;
+        if (to >= end) {
+            return end;
+        }
+        int newline = indexOfNewline(bytes, to, end);
+        return newline == end ? end : newline + 1;
+    }
+
+    private static int lastLineEnd(byte[] bytes, int end) {
+        for (int i = end - 1; i >= 0; i--) {
+            if (bytes[i] == NEWLINE) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static int indexOfNewline(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == NEWLINE) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private static boolean isBlank(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = bytes[i];
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Values parsed from a segment of lines.
+     *
+     * @param values values of the non-blank lines parsed before an error, if any
+     * @param lineCount number of lines read, including the line with the error
+     * @param error error of the first invalid line or {@code null}
+     */
+    private record Segment(List<Object> values, int lineCount, BError error) {
+    }
+}
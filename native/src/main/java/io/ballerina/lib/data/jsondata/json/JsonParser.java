@@ -18,13 +18,14 @@
 
 package io.ballerina.lib.data.jsondata.json;
 
+import io.ballerina.lib.data.jsondata.io.Utf8Decoder;
 import io.ballerina.lib.data.jsondata.utils.Constants;
 import io.ballerina.lib.data.jsondata.utils.DataUtils;
 import io.ballerina.lib.data.jsondata.utils.DiagnosticErrorCode;
 import io.ballerina.lib.data.jsondata.utils.DiagnosticLog;
+import io.ballerina.lib.data.jsondata.utils.StatePool;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.IntersectionType;
@@ -41,15 +42,24 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import org.apache.commons.lang3.StringEscapeUtils;
-import org.ballerinalang.langlib.value.CloneReadOnly;
 
+import java.io.CharArrayReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Deque;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Stack;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static io.ballerina.lib.data.jsondata.utils.Constants.ENABLE_CONSTRAINT_VALIDATION;
 
@@ -60,7 +70,36 @@ import static io.ballerina.lib.data.jsondata.utils.Constants.ENABLE_CONSTRAINT_V
  */
 public class JsonParser {
 
-    private static final ThreadLocal<StateMachine> tlStateMachine = ThreadLocal.withInitial(StateMachine::new);
+    private static final StatePool<StateMachine> STATE_MACHINES = new StatePool<>(StateMachine::new);
+    private static final int MIN_BUFFER_SIZE = 16;
+    private static final int MAX_BUFFER_SIZE = 1 << 30;
+
+    // Sizes in characters, configured when the module is initialized.
+    private static volatile int readBufferSize = 1024;
+    private static volatile int retainedBufferSize = 1 << 16;
+
+    /**
+     * Returns the pool of the state machines used to parse, e.g. to monitor its size and hit rate.
+     *
+     * @return pool of the state machines
+     */
+    public static StatePool<?> getStateMachinePool() {
+        return STATE_MACHINES;
+    }
+
+    /**
+     * Sets the size of the buffers through which the content is read, and the size up to which the buffer of the
+     * token being read is retained by a state machine after a parse. A buffer grown beyond the latter to read a large
+     * value is released once the parse completes.
+     *
+     * @param readBufferSize size of the read buffers in characters
+     * @param retainedBufferSize maximum size of the retained token buffer in characters
+     */
+    static void setBufferSizes(long readBufferSize, long retainedBufferSize) {
+        JsonParser.readBufferSize = (int) Math.max(MIN_BUFFER_SIZE, Math.min(MAX_BUFFER_SIZE, readBufferSize));
+        JsonParser.retainedBufferSize =
+                (int) Math.max(MIN_BUFFER_SIZE, Math.min(MAX_BUFFER_SIZE, retainedBufferSize));
+    }
 
     /**
      * Parses the contents in the given {@link Reader} and returns a json.
@@ -73,16 +112,159 @@ public class JsonParser {
      */
     public static Object parse(Reader reader, BMap<BString, Object> options, Type type)
             throws BError {
-        StateMachine sm = tlStateMachine.get();
+        StateMachine sm = STATE_MACHINES.acquire();
         try {
             return sm.execute(reader, options, type);
         } finally {
             // Need to reset the state machine before leaving. Otherwise, references to the created
             // JSON values will be maintained and the java GC will not happen properly.
             sm.reset();
+            STATE_MACHINES.release(sm);
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given byte range and returns a json.
+     * The bytes are decoded inline by the parser, hence the range can be a slice of a larger buffer.
+     *
+     * @param bytes   bytes which contain the JSON content
+     * @param offset  index of the first byte of the JSON content
+     * @param length  number of bytes of the JSON content
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param type the type to which the source has to convert
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, int offset, int length, BMap<BString, Object> options, Type type)
+            throws BError {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        StateMachine sm = STATE_MACHINES.acquire();
+        try {
+            return sm.execute(bytes, offset, length, options, type);
+        } finally {
+            sm.reset();
+            STATE_MACHINES.release(sm);
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content of the given {@link InputStream} and returns a json.
+     *
+     * @param inputStream input stream which contains the JSON content
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param type the type to which the source has to convert
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(InputStream inputStream, BMap<BString, Object> options, Type type)
+            throws BError {
+        StateMachine sm = STATE_MACHINES.acquire();
+        try {
+            return sm.execute(inputStream, options, type);
+        } finally {
+            sm.reset();
+            STATE_MACHINES.release(sm);
         }
     }
 
+    /**
+     * Parses the UTF-8 encoded JSON content given block by block and returns a json. A block is requested only once
+     * the previous block is consumed, hence the given function may suspend the caller until the next block is
+     * available. The blocks are consumed in place and can end anywhere in the content.
+     *
+     * @param blocks  function which returns the next block, or {@code null} at the end of the content
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param type the type to which the source has to convert
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(Supplier<byte[]> blocks, BMap<BString, Object> options, Type type) throws BError {
+        StateMachine sm = STATE_MACHINES.acquire();
+        try {
+            return sm.execute(blocks, options, type);
+        } finally {
+            sm.reset();
+            STATE_MACHINES.release(sm);
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content of the file at the given path and returns a json. The file is memory
+     * mapped and parsed in place, hence its content is not copied to the heap.
+     *
+     * @param path    path of the file which contains the JSON content
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param type the type to which the source has to convert
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(Path path, BMap<BString, Object> options, Type type) throws BError {
+        StateMachine sm = STATE_MACHINES.acquire();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return sm.execute(channel, options, type);
+        } catch (IOException e) {
+            throw DiagnosticLog.error(DiagnosticErrorCode.JSON_READER_FAILURE, e.getMessage());
+        } finally {
+            sm.reset();
+            STATE_MACHINES.release(sm);
+        }
+    }
+
+    /**
+     * Parses the comma separated, UTF-8 encoded JSON values in the given byte range as the members of an array.
+     * This is used to parse a slice of the members of a larger array.
+     *
+     * @param bytes   bytes which contain the JSON values
+     * @param from    index of the first byte of the JSON values
+     * @param to      index after the last byte of the JSON values
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param type the array type to which the values have to convert
+     * @return array of the values
+     * @throws BError for any parsing error
+     */
+    static Object parseArrayMembers(byte[] bytes, int from, int to, BMap<BString, Object> options, ArrayType type)
+            throws BError {
+        StateMachine sm = STATE_MACHINES.acquire();
+        try {
+            return sm.executeArrayMembers(bytes, from, to, options, type);
+        } finally {
+            sm.reset();
+            STATE_MACHINES.release(sm);
+        }
+    }
+
+    /**
+     * Binds the recorded JSON document to the given type.
+     *
+     * @param tape    recorded JSON document
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param type the type to which the document has to convert
+     * @return JSON structure
+     * @throws BError for any conversion error
+     */
+    static Object bind(Tape tape, BMap<BString, Object> options, Type type) throws BError {
+        StateMachine sm = STATE_MACHINES.acquire();
+        try {
+            return sm.execute(tape, options, type);
+        } finally {
+            sm.reset();
+            STATE_MACHINES.release(sm);
+        }
+    }
+
+    /**
+     * Binds the recorded JSON document to the given type, validates constraints, and returns a JSON object.
+     *
+     * @param tape    recorded JSON document
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param typed type descriptor of expected type
+     * @return JSON structure
+     * @throws BError for any conversion error
+     */
+    static Object bind(Tape tape, BMap<BString, Object> options, BTypedesc typed) throws BError {
+        return validateConstraints(bind(tape, options, typed.getDescribingType()), options, typed);
+    }
+
     /**
      * Parses the contents of the given {@link Reader}, validates constraints, and returns a JSON object.
      *
@@ -94,7 +276,71 @@ public class JsonParser {
      */
     public static Object parse(Reader reader, BMap<BString, Object> options, BTypedesc typed)
             throws BError {
-        Object convertedValue = parse(reader, options, typed.getDescribingType());
+        return validateConstraints(parse(reader, options, typed.getDescribingType()), options, typed);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given byte range, validates constraints, and returns a JSON
+     * object.
+     *
+     * @param bytes   bytes which contain the JSON content
+     * @param offset  index of the first byte of the JSON content
+     * @param length  number of bytes of the JSON content
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param typed type descriptor of expected type
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, int offset, int length, BMap<BString, Object> options,
+                               BTypedesc typed) throws BError {
+        return validateConstraints(parse(bytes, offset, length, options, typed.getDescribingType()), options, typed);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content of the given {@link InputStream}, validates constraints, and returns a
+     * JSON object.
+     *
+     * @param inputStream input stream which contains the JSON content
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param typed type descriptor of expected type
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(InputStream inputStream, BMap<BString, Object> options, BTypedesc typed)
+            throws BError {
+        return validateConstraints(parse(inputStream, options, typed.getDescribingType()), options, typed);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content given block by block, validates constraints, and returns a JSON object.
+     *
+     * @param blocks  function which returns the next block, or {@code null} at the end of the content
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param typed type descriptor of expected type
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(Supplier<byte[]> blocks, BMap<BString, Object> options, BTypedesc typed)
+            throws BError {
+        return validateConstraints(parse(blocks, options, typed.getDescribingType()), options, typed);
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content of the file at the given path, validates constraints, and returns a JSON
+     * object.
+     *
+     * @param path    path of the file which contains the JSON content
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param typed type descriptor of expected type
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(Path path, BMap<BString, Object> options, BTypedesc typed) throws BError {
+        return validateConstraints(parse(path, options, typed.getDescribingType()), options, typed);
+    }
+
+    static Object validateConstraints(Object convertedValue, BMap<BString, Object> options,
+                                      BTypedesc typed) {
         if (convertedValue instanceof BError) {
             return convertedValue;
         }
@@ -126,6 +372,8 @@ public class JsonParser {
         private static final char REV_SOL = '\\';
         private static final char SOL = '/';
         private static final char EOF = (char) -1;
+        private static final int INITIAL_CHAR_BUFF_SIZE = 1024;
+        private static final long MAPPED_REGION_SIZE = 1L << 30;
         private static final State DOC_START_STATE = new DocumentStartState();
         private static final State DOC_END_STATE = new DocumentEndState();
         static final State FIRST_FIELD_READY_STATE = new FirstFieldReadyState();
@@ -156,31 +404,84 @@ public class JsonParser {
                 new StringFieldUnicodeHexProcessingState();
         private static final State STRING_VALUE_UNICODE_HEX_PROCESSING_STATE =
                 new StringValueUnicodeHexProcessingState();
+        private static final State SKIP_VALUE_STATE = new SkipValueState();
+        private static final State SKIP_NON_STRING_VALUE_STATE = new SkipNonStringValueState();
+
+        // What a skipped object or array expects next.
+        private static final int SKIP_VALUE = 0;
+        private static final int SKIP_FIRST_ELEMENT = 1;
+        private static final int SKIP_FIRST_FIELD = 2;
+        private static final int SKIP_FIELD = 3;
+        private static final int SKIP_COLON = 4;
+        private static final int SKIP_VALUE_END = 5;
+
+        // States of a skipped literal. A keyword state holds the number of matched characters above LITERAL_KEYWORD.
+        private static final int NOT_IN_LITERAL = -1;
+        private static final int INVALID_LITERAL = -2;
+        private static final int LITERAL_START = 0;
+        private static final int NUMBER_SIGN = 1;
+        private static final int NUMBER_ZERO = 2;
+        private static final int NUMBER_INTEGER = 3;
+        private static final int NUMBER_POINT = 4;
+        private static final int NUMBER_FRACTION = 5;
+        private static final int NUMBER_EXPONENT = 6;
+        private static final int NUMBER_EXPONENT_SIGN = 7;
+        private static final int NUMBER_EXPONENT_DIGITS = 8;
+        private static final int LITERAL_KEYWORD = 16;
+        private static final String ESCAPED_CHARS = "\"\\/bfnrt";
 
         Object currentJsonNode;
         Deque<Object> nodesStack;
         private StringBuilder hexBuilder = new StringBuilder(4);
-        private char[] charBuff = new char[1024];
+        private char[] charBuff = new char[INITIAL_CHAR_BUFF_SIZE];
         private int charBuffIndex;
+        // Read buffers, kept across parses while they have the configured size.
+        private char[] readBuff;
+        private byte[] readBytes;
+
+        private final Utf8Decoder utf8Decoder = new Utf8Decoder();
+        // Kept across parses, so the field names of documents with the same shape are shared.
+        private final FieldNameCache fieldNameCache = new FieldNameCache();
+        private final ScalarValueDecoder scalarValueDecoder = new ScalarValueDecoder();
+        // Receives the elements of the root array instead of the array, when set. Kept across parses.
+        private Consumer<Object> rootElementConsumer;
+        private State currentState;
+        private boolean readOnlyRoot = false;
 
         private int index;
+        // Location of the current block, from which the line and column of an error are resolved.
+        private long offset;
         private int line;
-        private int column;
+        private long lineStart;
+        // The first character of a non-string value is read by the state which hands it over as well, and is
+        // counted twice in the column, as it has always been reported.
+        private int rereadChars;
         private char currentQuoteChar;
         boolean allowDataProjection = false;
         boolean nilAsOptionalField = false;
         boolean absentAsNilableType = false;
+        private boolean validateConstraints = false;
         Field currentField;
-        Stack<Map<String, Field>> fieldHierarchy = new Stack<>();
-        Stack<Map<String, Field>> visitedFieldHierarchy = new Stack<>();
+        Stack<RecordBindingPlan> bindingPlans = new Stack<>();
+        Stack<BitSet> visitedFields = new Stack<>();
         Stack<Type> restType = new Stack<>();
         Stack<Type> expectedTypes = new Stack<>();
-        Stack<Stack<String>> fieldNameHierarchy = new Stack<>();
+        Stack<Stack<BString>> fieldNameHierarchy = new Stack<>();
         int jsonFieldDepth = 0;
         Stack<Integer> arrayIndexes = new Stack<>();
         Stack<ParserContext> parserContexts = new Stack<>();
         int unionDepth = 0;
 
+        // State of the value being skipped when it is not part of the expected type.
+        private int skipDepth;
+        private boolean skipInString;
+        private boolean skipEscaped;
+        private int skipHexDigits;
+        private int skipExpected;
+        private int skipLiteral;
+        private String skipKeyword;
+        private final BitSet skipArrays = new BitSet();
+
         StateMachine() {
             reset();
         }
@@ -188,12 +489,19 @@ public class JsonParser {
         public void reset() {
             index = 0;
             currentJsonNode = null;
+            charBuffIndex = 0;
+            if (charBuff.length > retainedBufferSize) {
+                // Release the buffer grown to read a large value.
+                charBuff = new char[INITIAL_CHAR_BUFF_SIZE];
+            }
+            offset = 0;
             line = 1;
-            column = 0;
+            lineStart = 0;
+            rereadChars = 0;
             nodesStack = new ArrayDeque<>();
             fieldNameHierarchy.clear();
-            fieldHierarchy.clear();
-            visitedFieldHierarchy.clear();
+            bindingPlans.clear();
+            visitedFields.clear();
             currentField = null;
             restType.clear();
             expectedTypes.clear();
@@ -203,70 +511,320 @@ public class JsonParser {
             allowDataProjection = false;
             nilAsOptionalField = false;
             absentAsNilableType = false;
+            validateConstraints = false;
             unionDepth = 0;
+            skipDepth = 0;
+            skipInString = false;
+            skipEscaped = false;
+            skipHexDigits = 0;
+            skipLiteral = NOT_IN_LITERAL;
+            skipKeyword = null;
+            currentState = null;
+            readOnlyRoot = false;
+            utf8Decoder.reset();
         }
 
-        private static boolean isWhitespace(char ch) {
-            return ch == SPACE || ch == HZ_TAB || ch == NEWLINE || ch == CR;
+        /**
+         * Checks whether the character at the given index of the current block is a whitespace, and records the
+         * start of a new line.
+         */
+        private boolean isWhitespace(char ch, int i) {
+            if (ch == NEWLINE) {
+                newLine(i);
+                return true;
+            }
+            return ch == SPACE || ch == HZ_TAB || ch == CR;
         }
 
-        private static void throwExpected(String... chars) throws JsonParserException {
-            throw new JsonParserException("expected '" + String.join("' or '", chars) + "'");
+        /**
+         * Records a newline at the given index of the current block.
+         */
+        private void newLine(int i) {
+            this.line++;
+            this.lineStart = this.offset + i + 1;
+            this.rereadChars = 0;
         }
 
-        private void processLocation(char ch) {
-            if (ch == '\n') {
-                this.line++;
-                this.column = 0;
-            } else {
-                this.column++;
+        /**
+         * Records that the character at the given index of the current block is read again by the next state.
+         */
+        private void reread(int i) {
+            this.index = i;
+            this.rereadChars++;
+        }
+
+        /**
+         * Creates the exception for the malformed content at the given index of the current block. The line and
+         * column are resolved only when the error is reported.
+         */
+        private JsonParserException syntaxError(int i, String message) {
+            this.index = i;
+            return new JsonParserException(message);
+        }
+
+        private char[] readBuff() {
+            int size = readBufferSize;
+            if (readBuff == null || readBuff.length != size) {
+                readBuff = new char[size];
+            }
+            return readBuff;
+        }
+
+        private byte[] readBytes() {
+            int size = readBufferSize;
+            if (readBytes == null || readBytes.length != size) {
+                readBytes = new byte[size];
             }
+            return readBytes;
+        }
+
+        private void throwExpected(int i, String... chars) throws JsonParserException {
+            throw syntaxError(i, "expected '" + String.join("' or '", chars) + "'");
         }
 
         public Object execute(Reader reader, BMap<BString, Object> options, Type type) throws BError {
-            switch (type.getTag()) {
+            begin(options, type);
+            try {
+                char[] buff = readBuff();
+                int count;
+                while ((count = reader.read(buff)) > 0) {
+                    consume(buff, count);
+                }
+                return end();
+            } catch (IOException e) {
+                throw DiagnosticLog.error(DiagnosticErrorCode.JSON_READER_FAILURE, e.getMessage());
+            } catch (JsonParserException e) {
+                throw parserError(e);
+            }
+        }
+
+        public Object execute(byte[] bytes, int offset, int length, BMap<BString, Object> options, Type type)
+                throws BError {
+            begin(options, type);
+            try {
+                char[] buff = readBuff();
+                consume(bytes, offset, offset + length, buff);
+                return end(buff);
+            } catch (JsonParserException e) {
+                throw parserError(e);
+            }
+        }
+
+        public Object execute(InputStream inputStream, BMap<BString, Object> options, Type type) throws BError {
+            begin(options, type);
+            try {
+                byte[] bytes = readBytes();
+                char[] buff = readBuff();
+                int count;
+                while ((count = inputStream.read(bytes)) != -1) {
+                    consume(bytes, 0, count, buff);
+                }
+                return end(buff);
+            } catch (IOException e) {
+                throw DiagnosticLog.error(DiagnosticErrorCode.JSON_READER_FAILURE, e.getMessage());
+            } catch (JsonParserException e) {
+                throw parserError(e);
+            }
+        }
+
+        public Object execute(Supplier<byte[]> blocks, BMap<BString, Object> options, Type type) throws BError {
+            begin(options, type);
+            try {
+                char[] buff = readBuff();
+                byte[] block;
+                while ((block = blocks.get()) != null) {
+                    consume(block, 0, block.length, buff);
+                }
+                return end(buff);
+            } catch (JsonParserException e) {
+                throw parserError(e);
+            }
+        }
+
+        public Object execute(FileChannel channel, BMap<BString, Object> options, Type type)
+                throws BError, IOException {
+            begin(options, type);
+            try {
+                char[] buff = readBuff();
+                long size = channel.size();
+                // A mapping can not exceed 2GB, hence larger files are mapped region by region.
+                for (long position = 0; position < size; position += MAPPED_REGION_SIZE) {
+                    consume(channel.map(FileChannel.MapMode.READ_ONLY, position,
+                            Math.min(MAPPED_REGION_SIZE, size - position)), buff);
+                }
+                return end(buff);
+            } catch (JsonParserException e) {
+                throw parserError(e);
+            }
+        }
+
+        Object executeArrayMembers(byte[] bytes, int from, int to, BMap<BString, Object> options, ArrayType type)
+                throws BError {
+            begin(options, type);
+            try {
+                char[] buff = readBuff();
+                buff[0] = '[';
+                consume(buff, 1);
+                consume(bytes, from, to, buff);
+                buff[0] = ']';
+                consume(buff, 1);
+                return end(buff);
+            } catch (JsonParserException e) {
+                throw parserError(e);
+            }
+        }
+
+        /**
+         * Binds the recorded JSON document to the given type. The entries of the tape are replayed in the order in
+         * which the states would read the tokens, hence the document is converted exactly as it would be when
+         * parsed, without reading the characters again.
+         */
+        Object execute(Tape tape, BMap<BString, Object> options, Type type) throws BError {
+            if (!tape.isRecorded()) {
+                return execute(new CharArrayReader(tape.text(), 0, tape.sourceLength()), options, type);
+            }
+            begin(options, type);
+            char[] text = tape.text();
+            switch (tape.kind(0)) {
+                case Tape.OBJECT -> currentJsonNode = JsonCreator.initRootMapValue(this);
+                case Tape.ARRAY -> currentJsonNode = JsonCreator.initRootArrayValue(this);
+                case Tape.STRING -> {
+                    append(text, tape.payload(0), tape.payload(1));
+                    String value = value();
+                    Type expType = unionDepth > 0 ? PredefinedTypes.TYPE_STRING : expectedTypes.peek();
+                    JsonCreator.checkNullAndUpdateCurrentJson(this,
+                            JsonCreator.convertAndUpdateCurrentJsonNode(this, value, expType, true));
+                    return readOnlyRoot ? JsonCreator.freezeValue(currentJsonNode) : currentJsonNode;
+                }
+                default -> {
+                    append(text, tape.payload(0), tape.payload(1));
+                    currentJsonNode = null;
+                    processValue(false);
+                    return readOnlyRoot ? JsonCreator.freezeValue(currentJsonNode) : currentJsonNode;
+                }
+            }
+
+            // Indexes of the start entries of the enclosing objects and arrays.
+            int[] openings = new int[16];
+            openings[0] = 0;
+            int depth = 1;
+            int i = 1;
+            while (depth > 0) {
+                int opening = openings[depth - 1];
+                boolean inObject = tape.kind(opening) == Tape.OBJECT;
+                int kind = tape.kind(i);
+                if (kind == Tape.END) {
+                    if (inObject) {
+                        checkUnionAndFinalizeNonArrayObject();
+                    } else {
+                        checkUnionAndFinalizeArrayObject();
+                    }
+                    depth--;
+                    i++;
+                    continue;
+                }
+
+                if (inObject) {
+                    append(text, tape.payload(i), tape.payload(i + 1));
+                    handleFieldName(processFieldName());
+                    i += 2;
+                    kind = tape.kind(i);
+                } else {
+                    if (i != opening + 1) {
+                        updateIndexOfArrayElement();
+                    }
+                    JsonCreator.updateExpectedType(this);
+                }
+
+                if (isSkippedValue()) {
+                    skipValue(switch (kind) {
+                        case Tape.OBJECT -> '{';
+                        case Tape.ARRAY -> '[';
+                        case Tape.STRING -> QUOTES;
+                        default -> text[tape.payload(i)];
+                    });
+                    i = tape.next(i);
+                    continue;
+                }
+                switch (kind) {
+                    case Tape.OBJECT, Tape.ARRAY -> {
+                        if (kind == Tape.OBJECT) {
+                            JsonCreator.updateNextMapValue(this);
+                        } else {
+                            JsonCreator.updateNextArrayValue(this);
+                        }
+                        if (depth == openings.length) {
+                            openings = Arrays.copyOf(openings, depth * 2);
+                        }
+                        openings[depth++] = i;
+                        i++;
+                    }
+                    default -> {
+                        append(text, tape.payload(i), tape.payload(i + 1));
+                        processValue(kind == Tape.STRING);
+                        i += 2;
+                    }
+                }
+            }
+            if (readOnlyRoot) {
+                return JsonCreator.freezeValue(currentJsonNode);
+            }
+            return currentJsonNode;
+        }
+
+        /**
+         * Prepares the state machine to parse a new JSON document of the given type.
+         *
+         * @param options represent the options that can be used to modify the behaviour of conversion
+         * @param type the type to which the source has to convert
+         */
+        void begin(BMap<BString, Object> options, Type type) {
+            Type expType = type;
+            while (true) {
+                if (expType.getTag() == TypeTags.TYPE_REFERENCED_TYPE_TAG) {
+                    expType = TypeUtils.getReferredType(expType);
+                } else if (expType.getTag() == TypeTags.INTERSECTION_TAG) {
+                    Type effectiveType = ((IntersectionType) expType).getEffectiveType();
+                    if (!effectiveType.isReadOnly()) {
+                        throw DiagnosticLog.error(DiagnosticErrorCode.UNSUPPORTED_TYPE, expType);
+                    }
+
+                    Optional<Type> mutableType = JsonCreator.getMutableType((IntersectionType) expType);
+                    if (mutableType.isEmpty()) {
+                        throw DiagnosticLog.error(DiagnosticErrorCode.UNSUPPORTED_TYPE, expType);
+                    }
+                    readOnlyRoot = true;
+                    expType = TypeUtils.getReferredType(mutableType.get());
+                } else {
+                    break;
+                }
+            }
+
+            switch (expType.getTag()) {
                 case TypeTags.RECORD_TYPE_TAG -> {
-                    RecordType recordType = (RecordType) type;
+                    RecordType recordType = (RecordType) expType;
                     expectedTypes.push(recordType);
-                    updateExpectedType(JsonCreator.getAllFieldsInRecord(recordType), recordType.getRestFieldType());
+                    RecordBindingPlan bindingPlan = RecordBindingPlan.of(recordType);
+                    updateExpectedType(bindingPlan, bindingPlan.getRestType());
                 }
                 case TypeTags.ARRAY_TAG, TypeTags.TUPLE_TAG -> {
-                    expectedTypes.push(type);
+                    expectedTypes.push(expType);
                     arrayIndexes.push(0);
                 }
                 case TypeTags.NULL_TAG, TypeTags.BOOLEAN_TAG, TypeTags.INT_TAG, TypeTags.BYTE_TAG,
                         TypeTags.SIGNED8_INT_TAG, TypeTags.SIGNED16_INT_TAG, TypeTags.SIGNED32_INT_TAG,
                         TypeTags.UNSIGNED8_INT_TAG, TypeTags.UNSIGNED16_INT_TAG, TypeTags.UNSIGNED32_INT_TAG,
                         TypeTags.FLOAT_TAG, TypeTags.DECIMAL_TAG, TypeTags.CHAR_STRING_TAG, TypeTags.STRING_TAG,
-                        TypeTags.FINITE_TYPE_TAG, TypeTags.UNION_TAG -> expectedTypes.push(type);
+                        TypeTags.FINITE_TYPE_TAG, TypeTags.UNION_TAG -> expectedTypes.push(expType);
                 case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> {
-                    expectedTypes.push(type);
-                    updateExpectedType(new HashMap<>(), type);
+                    expectedTypes.push(expType);
+                    updateExpectedType(RecordBindingPlan.EMPTY, expType);
                 }
                 case TypeTags.MAP_TAG -> {
-                    expectedTypes.push(type);
-                    updateExpectedType(new HashMap<>(), ((MapType) type).getConstrainedType());
-                }
-                case TypeTags.INTERSECTION_TAG -> {
-                    Type effectiveType = ((IntersectionType) type).getEffectiveType();
-                    if (!effectiveType.isReadOnly()) {
-                        throw DiagnosticLog.error(DiagnosticErrorCode.UNSUPPORTED_TYPE, type);
-                    }
-
-                    Object jsonValue = null;
-                    for (Type constituentType : ((IntersectionType) type).getConstituentTypes()) {
-                        if (constituentType.getTag() == TypeTags.READONLY_TAG) {
-                            continue;
-                        }
-                        jsonValue = execute(reader, options, TypeUtils.getReferredType(constituentType));
-                        break;
-                    }
-                    return JsonCreator.constructReadOnlyValue(jsonValue);
-                }
-                case TypeTags.TYPE_REFERENCED_TYPE_TAG -> {
-                    return execute(reader, options, TypeUtils.getReferredType(type));
+                    expectedTypes.push(expType);
+                    updateExpectedType(RecordBindingPlan.EMPTY, ((MapType) expType).getConstrainedType());
                 }
-                default -> throw DiagnosticLog.error(DiagnosticErrorCode.UNSUPPORTED_TYPE, type);
+                default -> throw DiagnosticLog.error(DiagnosticErrorCode.UNSUPPORTED_TYPE, expType);
             }
 
             Object allowDataProjection = options.get(Constants.ALLOW_DATA_PROJECTION);
@@ -279,27 +837,101 @@ public class JsonParser {
                 this.nilAsOptionalField =
                         (Boolean) ((BMap<?, ?>) allowDataProjection).get(Constants.NIL_AS_OPTIONAL_FIELD);
             }
+            validateConstraints = Boolean.TRUE.equals(options.get(ENABLE_CONSTRAINT_VALIDATION));
+            currentState = DOC_START_STATE;
+        }
 
-            State currentState = DOC_START_STATE;
-            try {
-                char[] buff = new char[1024];
-                int count;
-                while ((count = reader.read(buff)) > 0) {
-                    this.index = 0;
-                    while (this.index < count) {
-                        currentState = currentState.transition(this, buff, this.index, count);
-                    }
-                }
-                currentState = currentState.transition(this, new char[]{EOF}, 0, 1);
-                if (currentState != DOC_END_STATE) {
-                    throw ErrorCreator.createError(StringUtils.fromString("invalid JSON document"));
-                }
-                return currentJsonNode;
-            } catch (IOException e) {
-                throw DiagnosticLog.error(DiagnosticErrorCode.JSON_READER_FAILURE, e.getMessage());
-            } catch (JsonParserException e) {
-                throw DiagnosticLog.error(DiagnosticErrorCode.JSON_PARSER_EXCEPTION, e.getMessage(), line, column);
+        /**
+         * Runs the state machine over the given characters. The state is retained between the calls, hence a
+         * document can be fed in arbitrary sized blocks.
+         *
+         * @param buff  characters of the JSON document
+         * @param count number of valid characters in the buffer
+         * @throws JsonParserException for malformed JSON content
+         */
+        void consume(char[] buff, int count) throws JsonParserException {
+            this.index = 0;
+            while (this.index < count) {
+                currentState = currentState.transition(this, buff, this.index, count);
+            }
+            this.offset += count;
+        }
+
+        /**
+         * Decodes the given UTF-8 bytes and runs the state machine over the decoded characters.
+         *
+         * @param bytes UTF-8 encoded bytes of the JSON document
+         * @param from  index of the first byte to consume
+         * @param to    index after the last byte to consume
+         * @param buff  scratch buffer for the decoded characters
+         * @throws JsonParserException for malformed JSON content
+         */
+        void consume(byte[] bytes, int from, int to, char[] buff) throws JsonParserException {
+            int i = from;
+            while (i < to) {
+                int count = utf8Decoder.decode(bytes, i, to, buff);
+                i = utf8Decoder.position();
+                consume(buff, count);
+            }
+        }
+
+        /**
+         * Decodes the remaining UTF-8 bytes of the given buffer and runs the state machine over the decoded
+         * characters.
+         *
+         * @param bytes UTF-8 encoded bytes of the JSON document
+         * @param buff  scratch buffer for the decoded characters
+         * @throws JsonParserException for malformed JSON content
+         */
+        void consume(ByteBuffer bytes, char[] buff) throws JsonParserException {
+            while (bytes.hasRemaining()) {
+                consume(buff, utf8Decoder.decode(bytes, buff));
+            }
+        }
+
+        /**
+         * Completes the parsing of the byte input and returns the resulting value.
+         *
+         * @param buff scratch buffer for the decoded characters
+         * @return parsed value
+         * @throws JsonParserException for malformed JSON content
+         */
+        Object end(char[] buff) throws JsonParserException {
+            int count = utf8Decoder.flush(buff);
+            if (count > 0) {
+                consume(buff, count);
+            }
+            return end();
+        }
+
+        /**
+         * Signals the end of the document and returns the resulting value.
+         *
+         * @return parsed value
+         * @throws JsonParserException for malformed JSON content
+         */
+        Object end() throws JsonParserException {
+            currentState = currentState.transition(this, new char[]{EOF}, 0, 1);
+            if (currentState != DOC_END_STATE) {
+                throw ErrorCreator.createError(StringUtils.fromString("invalid JSON document"));
+            }
+            if (readOnlyRoot) {
+                return JsonCreator.freezeValue(currentJsonNode);
+            }
+            return currentJsonNode;
+        }
+
+        BError parserError(JsonParserException e) {
+            int column = (int) (this.offset + this.index - this.lineStart + 1) + this.rereadChars;
+            return DiagnosticLog.error(DiagnosticErrorCode.JSON_PARSER_EXCEPTION, e.getMessage(), line, column);
+        }
+
+        private void append(char[] text, int from, int length) {
+            while (this.charBuffIndex + length > this.charBuff.length) {
+                this.growCharBuff();
             }
+            System.arraycopy(text, from, this.charBuff, this.charBuffIndex, length);
+            this.charBuffIndex += length;
         }
 
         private void append(char ch) {
@@ -313,6 +945,42 @@ public class JsonParser {
             }
         }
 
+        /**
+         * Appends the plain characters of the string being read, up to the next character which needs to be
+         * inspected by the state.
+         *
+         * @param buff  characters of the JSON document
+         * @param i     index of the first character of the run
+         * @param count number of valid characters in the buffer
+         * @return index of the next character to inspect or {@code count} if there is no such character
+         */
+        private int appendStringRun(char[] buff, int i, int count) {
+            int end = nextStringDelimiter(buff, i, count);
+            int length = end - i;
+            if (length > 0) {
+                while (this.charBuffIndex + length > this.charBuff.length) {
+                    this.growCharBuff();
+                }
+                System.arraycopy(buff, i, this.charBuff, this.charBuffIndex, length);
+                this.charBuffIndex += length;
+            }
+            return end;
+        }
+
+        /**
+         * Returns the index of the first character in the given range which ends a run of plain string characters,
+         * i.e. a quote, a backslash, a newline or the end of input marker.
+         */
+        private static int nextStringDelimiter(char[] buff, int from, int to) {
+            for (int i = from; i < to; i++) {
+                char ch = buff[i];
+                if (ch == QUOTES || ch == REV_SOL || ch == NEWLINE || ch == EOF) {
+                    return i;
+                }
+            }
+            return to;
+        }
+
         private void growCharBuff() {
             char[] newBuff = new char[charBuff.length * 2];
             System.arraycopy(this.charBuff, 0, newBuff, 0, this.charBuff.length);
@@ -348,19 +1016,11 @@ public class JsonParser {
                 return ARRAY_ELEMENT_END_STATE;
             }
 
-            Map<String, Field> remainingFields = fieldHierarchy.pop();
-            visitedFieldHierarchy.pop();
+            RecordBindingPlan bindingPlan = bindingPlans.pop();
+            BitSet visited = visitedFields.pop();
             fieldNameHierarchy.pop();
             restType.pop();
-            for (Field field : remainingFields.values()) {
-                if (absentAsNilableType && field.getFieldType().isNilable()) {
-                    continue;
-                }
-
-                if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED)) {
-                    throw DiagnosticLog.error(DiagnosticErrorCode.REQUIRED_FIELD_NOT_PRESENT, field.getFieldName());
-                }
-            }
+            bindingPlan.validateRequiredFields(visited, absentAsNilableType);
             return finalizeObject();
         }
 
@@ -402,15 +1062,19 @@ public class JsonParser {
             }
 
             if (expectedTypes.peek().isReadOnly()) {
-                currentJsonNode = CloneReadOnly.cloneReadOnly(currentJsonNode);
+                currentJsonNode = JsonCreator.freezeValue(currentJsonNode);
             }
 
             Object parentNode = nodesStack.pop();
+            if (emitRootElement(currentJsonNode)) {
+                currentJsonNode = parentNode;
+                return ARRAY_ELEMENT_END_STATE;
+            }
             Type parentNodeType = TypeUtils.getType(parentNode);
             int parentNodeTypeTag = TypeUtils.getReferredType(parentNodeType).getTag();
             if (parentNodeTypeTag == TypeTags.RECORD_TYPE_TAG || parentNodeTypeTag == TypeTags.MAP_TAG) {
-                ((BMap<BString, Object>) parentNode).put(StringUtils.fromString(fieldNameHierarchy.peek().pop()),
-                        currentJsonNode);
+                checkFieldConstraint(currentJsonNode);
+                ((BMap<BString, Object>) parentNode).put(fieldNameHierarchy.peek().pop(), currentJsonNode);
                 currentJsonNode = parentNode;
                 return FIELD_END_STATE;
             }
@@ -424,6 +1088,7 @@ public class JsonParser {
                         break;
                     }
                     ((BArray) parentNode).add(arrayIndexes.peek(), currentJsonNode);
+                    checkArrayFieldLength((BArray) parentNode);
                 }
                 case TypeTags.TUPLE_TAG -> ((BArray) parentNode).add(arrayIndexes.peek(), currentJsonNode);
                 default -> {
@@ -434,14 +1099,91 @@ public class JsonParser {
             return ARRAY_ELEMENT_END_STATE;
         }
 
+        /**
+         * Checks the value of the current record field against the constraint of the field compiled in the binding
+         * plan, so that the parsing fails at the first violation. A violation is only reported here when the field
+         * is reached through records alone, else it is left to the validation of the parsed value, which reports
+         * the path through the arrays and maps as well.
+         *
+         * @param value converted value of the field
+         */
+        void checkFieldConstraint(Object value) {
+            FieldConstraint constraint = getFieldConstraint();
+            if (constraint == null) {
+                return;
+            }
+            String violatedConstraint = constraint.check(value);
+            if (violatedConstraint == null || parserContexts.contains(ParserContext.ARRAY)) {
+                return;
+            }
+            throw constraintViolation(violatedConstraint);
+        }
+
+        /**
+         * Checks the number of elements of the array parsed as the value of the current record field against the
+         * maximum length in the constraint of the field, so that the parsing fails at the first element over the
+         * maximum rather than once the array is complete.
+         *
+         * @param array array to which an element has been added
+         */
+        void checkArrayFieldLength(BArray array) {
+            int depth = parserContexts.size() - 1;
+            if (depth < 1 || parserContexts.get(depth - 1) != ParserContext.MAP) {
+                return;
+            }
+            FieldConstraint constraint = getFieldConstraint();
+            if (constraint == null) {
+                return;
+            }
+            String violatedConstraint = constraint.checkMaxLength(array.size());
+            if (violatedConstraint == null || parserContexts.lastIndexOf(ParserContext.ARRAY, depth - 1) >= 0) {
+                return;
+            }
+            throw constraintViolation(violatedConstraint);
+        }
+
+        private FieldConstraint getFieldConstraint() {
+            if (!validateConstraints || unionDepth > 0 || jsonFieldDepth > 0) {
+                return null;
+            }
+            RecordBindingPlan bindingPlan = bindingPlans.peek();
+            if (!bindingPlan.hasConstraints() || bindingPlans.contains(RecordBindingPlan.EMPTY)) {
+                return null;
+            }
+            return bindingPlan.getConstraint(fieldNameHierarchy.peek().peek().getValue());
+        }
+
+        private BError constraintViolation(String violatedConstraint) {
+            return DiagnosticLog.error(DiagnosticErrorCode.CONSTRAINT_VIOLATION, JsonCreator.getCurrentFieldPath(this),
+                    violatedConstraint);
+        }
+
+        void setRootElementConsumer(Consumer<Object> rootElementConsumer) {
+            this.rootElementConsumer = rootElementConsumer;
+        }
+
+        /**
+         * Hands over a completed element of the root array to the root element consumer, if there is one.
+         *
+         * @param element completed element
+         * @return whether the element was consumed, in which case it must not be added to the root array
+         */
+        boolean emitRootElement(Object element) {
+            if (rootElementConsumer == null || !nodesStack.isEmpty()) {
+                return false;
+            }
+            rootElementConsumer.accept(element);
+            return true;
+        }
+
         private void updateIndexOfArrayElement() {
             int arrayIndex = arrayIndexes.pop();
             arrayIndexes.push(arrayIndex + 1);
         }
 
-        public void updateExpectedType(Map<String, Field> fields, Type restType) {
-            this.fieldHierarchy.push(new HashMap<>(fields));
-            this.visitedFieldHierarchy.push(new HashMap<>());
+        public void updateExpectedType(RecordBindingPlan bindingPlan, Type restType) {
+            this.bindingPlans.push(bindingPlan);
+            this.visitedFields.push(new BitSet(bindingPlan.size()));
             this.restType.push(restType);
             this.fieldNameHierarchy.push(new Stack<>());
         }
@@ -460,21 +1202,19 @@ public class JsonParser {
             return finalizeArrayObjectAndRemoveExpectedType();
         }
 
-        void handleFieldName(String jsonFieldName) {
+        void handleFieldName(BString jsonFieldName) {
             if (jsonFieldDepth == 0 && unionDepth == 0) {
-                currentField = visitedFieldHierarchy.peek().get(jsonFieldName);
-                if (currentField == null) {
-                    currentField = fieldHierarchy.peek().remove(jsonFieldName);
-                }
-
+                RecordBindingPlan.BoundField boundField = bindingPlans.peek().getField(jsonFieldName.getValue());
                 Type fieldType;
-                if (currentField == null) {
+                if (boundField == null) {
+                    currentField = null;
                     fieldType = restType.peek();
                 } else {
                     // Replace modified field name with actual field name.
-                    jsonFieldName = currentField.getFieldName();
-                    fieldType = currentField.getFieldType();
-                    visitedFieldHierarchy.peek().put(jsonFieldName, currentField);
+                    currentField = boundField.field();
+                    jsonFieldName = boundField.key();
+                    fieldType = boundField.type();
+                    visitedFields.peek().set(boundField.index());
                 }
                 expectedTypes.push(fieldType);
 
@@ -520,28 +1260,27 @@ public class JsonParser {
                 State state = null;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
                     if (ch == '{') {
                         sm.currentJsonNode = JsonCreator.initRootMapValue(sm);
                         state = FIRST_FIELD_READY_STATE;
                     } else if (ch == '[') {
                         sm.currentJsonNode = JsonCreator.initRootArrayValue(sm);
                         state = FIRST_ARRAY_ELEMENT_READY_STATE;
-                    } else if (StateMachine.isWhitespace(ch)) {
+                    } else if (sm.isWhitespace(ch, i)) {
                         state = this;
                         continue;
                     } else if (ch == QUOTES) {
                         sm.currentQuoteChar = ch;
                         state = STRING_VALUE_STATE;
                     } else if (ch == EOF) {
-                        throw new JsonParserException("empty JSON document");
+                        throw sm.syntaxError(i, "empty JSON document");
                     } else {
                         state = NON_STRING_VALUE_STATE;
                     }
                     break;
                 }
                 if (state == NON_STRING_VALUE_STATE) {
-                    sm.index = i;
+                    sm.reread(i);
                 } else {
                     sm.index = i + 1;
                 }
@@ -560,12 +1299,11 @@ public class JsonParser {
                 State state = null;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
-                    if (StateMachine.isWhitespace(ch) || ch == EOF) {
+                    if (sm.isWhitespace(ch, i) || ch == EOF) {
                         state = this;
                         continue;
                     }
-                    throw new JsonParserException("JSON document has already ended");
+                    throw sm.syntaxError(i, "JSON document has already ended");
                 }
                 sm.index = i + 1;
                 if (sm.unionDepth > 0) {
@@ -586,17 +1324,16 @@ public class JsonParser {
                 State state = null;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
                     if (ch == QUOTES) {
                         state = FIELD_NAME_STATE;
                         sm.currentQuoteChar = ch;
-                    } else if (StateMachine.isWhitespace(ch)) {
+                    } else if (sm.isWhitespace(ch, i)) {
                         state = this;
                         continue;
                     } else if (ch == '}') {
                         state = sm.checkUnionAndFinalizeNonArrayObject();
                     } else {
-                        StateMachine.throwExpected("\"", "}");
+                        sm.throwExpected(i, "\"", "}");
                     }
                     break;
                 }
@@ -616,30 +1353,18 @@ public class JsonParser {
                 char ch;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
-                    if (StateMachine.isWhitespace(ch)) {
+                    if (sm.isWhitespace(ch, i)) {
                         state = this;
                         continue;
-                    } else if (ch == QUOTES) {
-                        state = STRING_ARRAY_ELEMENT_STATE;
-                        sm.currentQuoteChar = ch;
-                        JsonCreator.updateExpectedType(sm);
-                    } else if (ch == '{') {
-                        JsonCreator.updateNextMapValueBasedOnExpType(sm);
-                        state = FIRST_FIELD_READY_STATE;
-                    } else if (ch == '[') {
-                        JsonCreator.updateNextArrayValueBasedOnExpType(sm);
-                        state = FIRST_ARRAY_ELEMENT_READY_STATE;
                     } else if (ch == ']') {
                         state = sm.checkUnionAndFinalizeArrayObject();
                     } else {
-                        state = NON_STRING_ARRAY_ELEMENT_STATE;
-                        JsonCreator.updateExpectedType(sm);
+                        state = sm.startArrayElement(ch);
                     }
                     break;
                 }
-                if (state == NON_STRING_ARRAY_ELEMENT_STATE) {
-                    sm.index = i;
+                if (state == NON_STRING_ARRAY_ELEMENT_STATE || state == SKIP_NON_STRING_VALUE_STATE) {
+                    sm.reread(i);
                 } else {
                     sm.index = i + 1;
                 }
@@ -658,15 +1383,14 @@ public class JsonParser {
                 char ch;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
                     if (ch == QUOTES) {
                         sm.currentQuoteChar = ch;
                         state = FIELD_NAME_STATE;
-                    } else if (StateMachine.isWhitespace(ch)) {
+                    } else if (sm.isWhitespace(ch, i)) {
                         state = this;
                         continue;
                     } else {
-                        StateMachine.throwExpected("\"");
+                        sm.throwExpected(i, "\"");
                     }
                     break;
                 }
@@ -686,28 +1410,16 @@ public class JsonParser {
                 char ch;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
-                    if (StateMachine.isWhitespace(ch)) {
+                    if (sm.isWhitespace(ch, i)) {
                         state = this;
                         continue;
-                    } else if (ch == QUOTES) {
-                        state = STRING_ARRAY_ELEMENT_STATE;
-                        sm.currentQuoteChar = ch;
-                        JsonCreator.updateExpectedType(sm);
-                    } else if (ch == '{') {
-                        JsonCreator.updateNextMapValueBasedOnExpType(sm);
-                        state = FIRST_FIELD_READY_STATE;
-                    } else if (ch == '[') {
-                        JsonCreator.updateNextArrayValueBasedOnExpType(sm);
-                        state = FIRST_ARRAY_ELEMENT_READY_STATE;
                     } else {
-                        JsonCreator.updateExpectedType(sm);
-                        state = NON_STRING_ARRAY_ELEMENT_STATE;
+                        state = sm.startArrayElement(ch);
                     }
                     break;
                 }
-                if (state == NON_STRING_ARRAY_ELEMENT_STATE) {
-                    sm.index = i;
+                if (state == NON_STRING_ARRAY_ELEMENT_STATE || state == SKIP_NON_STRING_VALUE_STATE) {
+                    sm.reread(i);
                 } else {
                     sm.index = i + 1;
                 }
@@ -715,14 +1427,178 @@ public class JsonParser {
             }
         }
 
+        private State startArrayElement(char ch) {
+            JsonCreator.updateExpectedType(this);
+            if (isSkippedValue()) {
+                return skipValue(ch);
+            }
+
+            if (ch == QUOTES) {
+                currentQuoteChar = ch;
+                return STRING_ARRAY_ELEMENT_STATE;
+            } else if (ch == '{') {
+                JsonCreator.updateNextMapValue(this);
+                return FIRST_FIELD_READY_STATE;
+            } else if (ch == '[') {
+                JsonCreator.updateNextArrayValue(this);
+                return FIRST_ARRAY_ELEMENT_READY_STATE;
+            }
+            return NON_STRING_ARRAY_ELEMENT_STATE;
+        }
+
+        private boolean isSkippedValue() {
+            return unionDepth == 0 && expectedTypes.peek() == null;
+        }
+
+        /**
+         * Starts skipping a value which is not part of the expected type. The skipped value is not converted, hence
+         * only its grammar is checked until the value ends.
+         *
+         * @param ch first character of the value
+         * @return the state which skips the value
+         */
+        private State skipValue(char ch) {
+            expectedTypes.pop();
+            if (parserContexts.peek() == ParserContext.MAP) {
+                fieldNameHierarchy.peek().pop();
+            }
+
+            skipDepth = 0;
+            skipEscaped = false;
+            skipHexDigits = 0;
+            skipInString = ch == QUOTES;
+            skipLiteral = NOT_IN_LITERAL;
+            if (ch == '{') {
+                skipArrays.set(skipDepth++, false);
+                skipExpected = SKIP_FIRST_FIELD;
+            } else if (ch == '[') {
+                skipArrays.set(skipDepth++, true);
+                skipExpected = SKIP_FIRST_ELEMENT;
+            } else if (!skipInString) {
+                skipLiteral = LITERAL_START;
+                return SKIP_NON_STRING_VALUE_STATE;
+            }
+            return SKIP_VALUE_STATE;
+        }
+
+        private State skippedValueEnd() {
+            return parserContexts.peek() == ParserContext.MAP ? FIELD_END_STATE : ARRAY_ELEMENT_END_STATE;
+        }
+
+        /**
+         * Checks the given character of a skipped string, and returns whether it ends the string.
+         */
+        private boolean skipStringChar(int i, char ch) throws JsonParserException {
+            if (skipHexDigits > 0) {
+                if (!isHexDigit(ch)) {
+                    throwExpected(i, "hexadecimal value of an unicode character");
+                }
+                skipHexDigits--;
+            } else if (skipEscaped) {
+                if (ch == 'u') {
+                    skipHexDigits = 4;
+                } else if (ESCAPED_CHARS.indexOf(ch) < 0) {
+                    throwExpected(i, "escaped characters");
+                }
+                skipEscaped = false;
+            } else if (ch == REV_SOL) {
+                skipEscaped = true;
+            } else if (ch == QUOTES) {
+                skipInString = false;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Advances the literal being skipped by the given character. A literal following the JSON grammar, i.e. one
+         * of true, false and null, or a JSON number, is skipped without being converted. Any other literal is kept
+         * to be checked the way a bound value is checked once it ends.
+         */
+        private void skipLiteralChar(char ch) {
+            append(ch);
+            int state = skipLiteral;
+            if (state >= LITERAL_KEYWORD) {
+                int matched = state - LITERAL_KEYWORD;
+                skipLiteral = matched == skipKeyword.length() || skipKeyword.charAt(matched) != ch ? INVALID_LITERAL
+                        : state + 1;
+                return;
+            }
+
+            boolean isDigit = ch >= '0' && ch <= '9';
+            boolean isExponent = ch == 'e' || ch == 'E';
+            skipLiteral = switch (state) {
+                case LITERAL_START -> ch == '-' ? NUMBER_SIGN : ch == '0' ? NUMBER_ZERO : isDigit ? NUMBER_INTEGER
+                        : startKeyword(ch);
+                case NUMBER_SIGN -> ch == '0' ? NUMBER_ZERO : isDigit ? NUMBER_INTEGER : INVALID_LITERAL;
+                case NUMBER_ZERO -> ch == '.' ? NUMBER_POINT : isExponent ? NUMBER_EXPONENT : INVALID_LITERAL;
+                case NUMBER_INTEGER -> isDigit ? NUMBER_INTEGER : ch == '.' ? NUMBER_POINT
+                        : isExponent ? NUMBER_EXPONENT : INVALID_LITERAL;
+                case NUMBER_POINT -> isDigit ? NUMBER_FRACTION : INVALID_LITERAL;
+                case NUMBER_FRACTION -> isDigit ? NUMBER_FRACTION : isExponent ? NUMBER_EXPONENT : INVALID_LITERAL;
+                case NUMBER_EXPONENT -> ch == '+' || ch == '-' ? NUMBER_EXPONENT_SIGN
+                        : isDigit ? NUMBER_EXPONENT_DIGITS : INVALID_LITERAL;
+                case NUMBER_EXPONENT_SIGN, NUMBER_EXPONENT_DIGITS -> isDigit ? NUMBER_EXPONENT_DIGITS
+                        : INVALID_LITERAL;
+                default -> INVALID_LITERAL;
+            };
+        }
+
+        private int startKeyword(char ch) {
+            skipKeyword = switch (ch) {
+                case 't' -> Constants.TRUE;
+                case 'f' -> Constants.FALSE;
+                case 'n' -> Constants.NULL_VALUE;
+                default -> null;
+            };
+            return skipKeyword == null ? INVALID_LITERAL : LITERAL_KEYWORD + 1;
+        }
+
+        /**
+         * Ends the literal being skipped. A literal which does not follow the JSON grammar is converted to json the
+         * way a bound value is, so that a literal such as {@code 01} is accepted and the error of an invalid one is
+         * the same whether the value is bound or skipped.
+         */
+        private void endSkippedLiteral() {
+            int state = skipLiteral;
+            skipLiteral = NOT_IN_LITERAL;
+            if (state >= LITERAL_KEYWORD ? state - LITERAL_KEYWORD == skipKeyword.length()
+                    : state == NUMBER_ZERO || state == NUMBER_INTEGER || state == NUMBER_FRACTION
+                    || state == NUMBER_EXPONENT_DIGITS) {
+                charBuffIndex = 0;
+                return;
+            }
+
+            String value = value();
+            if (JsonCreator.validateNonStringValueAndConvertToExpectedType(value, PredefinedTypes.TYPE_JSON)
+                    instanceof BError) {
+                throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, PredefinedTypes.TYPE_JSON, value);
+            }
+        }
+
+        private static boolean isHexDigit(char ch) {
+            return (ch >= '0' && ch <= '9') || (ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f');
+        }
+
+        /**
+         * Returns whether the given character ends a literal, using the same delimiters as a bound field value or
+         * array element.
+         */
+        private static boolean isLiteralDelimiter(char ch, boolean inArray) {
+            return ch == ',' || ch == ']' || ch == '{' || ch == '[' || (ch == '}' && !inArray)
+                    || ch == SPACE || ch == HZ_TAB || ch == NEWLINE || ch == CR;
+        }
+
         private String value() {
             String result = new String(this.charBuff, 0, this.charBuffIndex);
             this.charBuffIndex = 0;
             return result;
         }
 
-        private String processFieldName() {
-            return this.value();
+        private BString processFieldName() {
+            BString fieldName = fieldNameCache.intern(this.charBuff, this.charBuffIndex);
+            this.charBuffIndex = 0;
+            return fieldName;
         }
 
         /**
@@ -735,17 +1611,24 @@ public class JsonParser {
                 char ch;
                 State state = null;
                 for (; i < count; i++) {
+                    i = sm.appendStringRun(buff, i, count);
+                    if (i == count) {
+                        state = this;
+                        break;
+                    }
                     ch = buff[i];
-                    sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
-                        String jsonFieldName = sm.processFieldName();
+                        BString jsonFieldName = sm.processFieldName();
                         sm.handleFieldName(jsonFieldName);
                         state = END_FIELD_NAME_STATE;
                     } else if (ch == REV_SOL) {
                         state = FIELD_NAME_ESC_CHAR_PROCESSING_STATE;
                     } else if (ch == EOF) {
-                        throw new JsonParserException("unexpected end of JSON document");
+                        throw sm.syntaxError(i, "unexpected end of JSON document");
                     } else {
+                        if (ch == NEWLINE) {
+                            sm.newLine(i);
+                        }
                         sm.append(ch);
                         state = this;
                         continue;
@@ -768,14 +1651,13 @@ public class JsonParser {
                 char ch;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
-                    if (StateMachine.isWhitespace(ch)) {
+                    if (sm.isWhitespace(ch, i)) {
                         state = this;
                         continue;
                     } else if (ch == ':') {
                         state = FIELD_VALUE_READY_STATE;
                     } else {
-                        StateMachine.throwExpected(":");
+                        sm.throwExpected(i, ":");
                     }
                     break;
                 }
@@ -795,10 +1677,11 @@ public class JsonParser {
                 char ch;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
-                    if (StateMachine.isWhitespace(ch)) {
+                    if (sm.isWhitespace(ch, i)) {
                         state = this;
                         continue;
+                    } else if (sm.isSkippedValue()) {
+                        state = sm.skipValue(ch);
                     } else if (ch == QUOTES) {
                         state = STRING_FIELD_VALUE_STATE;
                         sm.currentQuoteChar = ch;
@@ -813,8 +1696,8 @@ public class JsonParser {
                     }
                     break;
                 }
-                if (state == NON_STRING_FIELD_VALUE_STATE) {
-                    sm.index = i;
+                if (state == NON_STRING_FIELD_VALUE_STATE || state == SKIP_NON_STRING_VALUE_STATE) {
+                    sm.reread(i);
                 } else {
                     sm.index = i + 1;
                 }
@@ -832,16 +1715,23 @@ public class JsonParser {
                 State state = null;
                 char ch;
                 for (; i < count; i++) {
+                    i = sm.appendStringRun(buff, i, count);
+                    if (i == count) {
+                        state = this;
+                        break;
+                    }
                     ch = buff[i];
-                    sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
                         sm.processValue(true);
                         state = FIELD_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_FIELD_ESC_CHAR_PROCESSING_STATE;
                     } else if (ch == EOF) {
-                        throw new JsonParserException("unexpected end of JSON document");
+                        throw sm.syntaxError(i, "unexpected end of JSON document");
                     } else {
+                        if (ch == NEWLINE) {
+                            sm.newLine(i);
+                        }
                         sm.append(ch);
                         state = this;
                         continue;
@@ -863,16 +1753,23 @@ public class JsonParser {
                 State state = null;
                 char ch;
                 for (; i < count; i++) {
+                    i = sm.appendStringRun(buff, i, count);
+                    if (i == count) {
+                        state = this;
+                        break;
+                    }
                     ch = buff[i];
-                    sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
                         sm.processValue(true);
                         state = ARRAY_ELEMENT_END_STATE;
                     } else if (ch == REV_SOL) {
                         state = STRING_AE_ESC_CHAR_PROCESSING_STATE;
                     } else if (ch == EOF) {
-                        throw new JsonParserException("unexpected end of JSON document");
+                        throw sm.syntaxError(i, "unexpected end of JSON document");
                     } else {
+                        if (ch == NEWLINE) {
+                            sm.newLine(i);
+                        }
                         sm.append(ch);
                         state = this;
                         continue;
@@ -895,7 +1792,6 @@ public class JsonParser {
                 char ch;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
                     if (ch == '{') {
                         JsonCreator.updateNextMapValue(sm);
                         state = FIRST_FIELD_READY_STATE;
@@ -911,11 +1807,11 @@ public class JsonParser {
                     } else if (ch == ',') {
                         sm.processValue(false);
                         state = NON_FIRST_FIELD_READY_STATE;
-                    } else if (StateMachine.isWhitespace(ch)) {
+                    } else if (sm.isWhitespace(ch, i)) {
                         sm.processValue(false);
                         state = FIELD_END_STATE;
                     } else if (ch == EOF) {
-                        throw new JsonParserException("unexpected end of JSON document");
+                        throw sm.syntaxError(i, "unexpected end of JSON document");
                     } else {
                         sm.append(ch);
                         state = this;
@@ -939,7 +1835,6 @@ public class JsonParser {
                 char ch;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
                     if (ch == '{') {
                         JsonCreator.updateNextMapValue(sm);
                         state = FIRST_FIELD_READY_STATE;
@@ -953,11 +1848,11 @@ public class JsonParser {
                         sm.processValue(false);
                         state = NON_FIRST_ARRAY_ELEMENT_READY_STATE;
                         sm.updateIndexOfArrayElement();
-                    } else if (StateMachine.isWhitespace(ch)) {
+                    } else if (sm.isWhitespace(ch, i)) {
                         sm.processValue(false);
                         state = ARRAY_ELEMENT_END_STATE;
                     } else if (ch == EOF) {
-                        throw new JsonParserException("unexpected end of JSON document");
+                        throw sm.syntaxError(i, "unexpected end of JSON document");
                     } else {
                         sm.append(ch);
                         state = this;
@@ -980,8 +1875,12 @@ public class JsonParser {
                 State state = null;
                 char ch;
                 for (; i < count; i++) {
+                    i = sm.appendStringRun(buff, i, count);
+                    if (i == count) {
+                        state = this;
+                        break;
+                    }
                     ch = buff[i];
-                    sm.processLocation(ch);
                     if (ch == sm.currentQuoteChar) {
                         String value = sm.value();
                         Type expType;
@@ -996,8 +1895,11 @@ public class JsonParser {
                     } else if (ch == REV_SOL) {
                         state = STRING_VAL_ESC_CHAR_PROCESSING_STATE;
                     } else if (ch == EOF) {
-                        throw new JsonParserException("unexpected end of JSON document");
+                        throw sm.syntaxError(i, "unexpected end of JSON document");
                     } else {
+                        if (ch == NEWLINE) {
+                            sm.newLine(i);
+                        }
                         sm.append(ch);
                         state = this;
                         continue;
@@ -1010,18 +1912,29 @@ public class JsonParser {
         }
 
         private void processValue(boolean isStringElement) {
-            // This will clear the buffer
-            String value = value();
-
             Type expType;
             if (unionDepth > 0) {
                 expType = isStringElement ? PredefinedTypes.TYPE_STRING : PredefinedTypes.TYPE_JSON;
             } else {
                 expType = expectedTypes.pop();
                 if (expType == null) {
+                    this.charBuffIndex = 0;
+                    return;
+                }
+            }
+
+            if (!isStringElement) {
+                Object decodedValue = scalarValueDecoder.decode(this.charBuff, this.charBuffIndex, expType);
+                if (decodedValue != ScalarValueDecoder.NOT_DECODED) {
+                    this.charBuffIndex = 0;
+                    JsonCreator.checkNullAndUpdateCurrentJson(this,
+                            JsonCreator.updateCurrentJsonNode(this, decodedValue));
                     return;
                 }
             }
+
+            // This will clear the buffer
+            String value = value();
             JsonCreator.checkNullAndUpdateCurrentJson(this,
                     JsonCreator.convertAndUpdateCurrentJsonNode(this, value, expType, isStringElement));
         }
@@ -1037,8 +1950,7 @@ public class JsonParser {
                 char ch;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
-                    if (StateMachine.isWhitespace(ch) || ch == EOF) {
+                    if (sm.isWhitespace(ch, i) || ch == EOF) {
                         sm.currentJsonNode = null;
                         sm.processValue(false);
                         state = DOC_END_STATE;
@@ -1054,6 +1966,152 @@ public class JsonParser {
             }
         }
 
+        /**
+         * Represents the state during a string, object or array value which is not part of the expected type is
+         * skipped.
+         */
+        private static class SkipValueState implements State {
+
+            @Override
+            public State transition(StateMachine sm, char[] buff, int i, int count) throws JsonParserException {
+                State state = this;
+                char ch;
+                for (; i < count; i++) {
+                    ch = buff[i];
+                    if (ch == EOF) {
+                        throw sm.syntaxError(i, "unexpected end of JSON document");
+                    }
+
+                    if (sm.skipInString) {
+                        if (ch == NEWLINE) {
+                            sm.newLine(i);
+                        }
+                        if (sm.skipStringChar(i, ch) && sm.skipDepth == 0) {
+                            state = sm.skippedValueEnd();
+                            break;
+                        }
+                        continue;
+                    }
+
+                    boolean inArray = sm.skipArrays.get(sm.skipDepth - 1);
+                    if (sm.skipLiteral != NOT_IN_LITERAL) {
+                        if (!isLiteralDelimiter(ch, inArray)) {
+                            sm.skipLiteralChar(ch);
+                            continue;
+                        }
+                        sm.endSkippedLiteral();
+                    }
+                    if (sm.isWhitespace(ch, i)) {
+                        continue;
+                    }
+
+                    switch (sm.skipExpected) {
+                        case SKIP_FIRST_FIELD, SKIP_FIELD -> {
+                            if (ch == QUOTES) {
+                                sm.skipInString = true;
+                                sm.skipExpected = SKIP_COLON;
+                                continue;
+                            } else if (sm.skipExpected == SKIP_FIELD) {
+                                sm.throwExpected(i, "\"");
+                            } else if (ch != '}') {
+                                sm.throwExpected(i, "\"", "}");
+                            }
+                        }
+                        case SKIP_COLON -> {
+                            if (ch != ':') {
+                                sm.throwExpected(i, ":");
+                            }
+                            sm.skipExpected = SKIP_VALUE;
+                            continue;
+                        }
+                        case SKIP_VALUE_END -> {
+                            if (ch == ',') {
+                                sm.skipExpected = inArray ? SKIP_VALUE : SKIP_FIELD;
+                                continue;
+                            } else if (ch != (inArray ? ']' : '}')) {
+                                sm.throwExpected(i, ",", inArray ? "]" : "}");
+                            }
+                        }
+                        default -> {
+                            if (ch == ']' && sm.skipExpected == SKIP_FIRST_ELEMENT) {
+                                break;
+                            }
+                            sm.skipExpected = SKIP_VALUE_END;
+                            if (ch == QUOTES) {
+                                sm.skipInString = true;
+                            } else if (ch == '{') {
+                                sm.skipArrays.set(sm.skipDepth++, false);
+                                sm.skipExpected = SKIP_FIRST_FIELD;
+                            } else if (ch == '[') {
+                                sm.skipArrays.set(sm.skipDepth++, true);
+                                sm.skipExpected = SKIP_FIRST_ELEMENT;
+                            } else {
+                                sm.skipLiteral = LITERAL_START;
+                                if (isLiteralDelimiter(ch, inArray)) {
+                                    // The value is empty, which fails the same way as an empty bound value.
+                                    sm.endSkippedLiteral();
+                                }
+                                sm.skipLiteralChar(ch);
+                            }
+                            continue;
+                        }
+                    }
+
+                    // The character closes the innermost skipped object or array.
+                    if (--sm.skipDepth == 0) {
+                        state = sm.skippedValueEnd();
+                        break;
+                    }
+                    sm.skipExpected = SKIP_VALUE_END;
+                }
+                sm.index = i + 1;
+                return state;
+            }
+        }
+
+        /**
+         * Represents the state during a non-string value which is not part of the expected type is skipped.
+         */
+        private static class SkipNonStringValueState implements State {
+
+            @Override
+            public State transition(StateMachine sm, char[] buff, int i, int count) throws JsonParserException {
+                State state = this;
+                char ch;
+                boolean isField = sm.parserContexts.peek() == ParserContext.MAP;
+                for (; i < count; i++) {
+                    ch = buff[i];
+                    if (ch == EOF) {
+                        throw sm.syntaxError(i, "unexpected end of JSON document");
+                    } else if (!isLiteralDelimiter(ch, !isField)) {
+                        sm.skipLiteralChar(ch);
+                        continue;
+                    }
+
+                    sm.endSkippedLiteral();
+                    if (ch == ',') {
+                        if (isField) {
+                            state = NON_FIRST_FIELD_READY_STATE;
+                        } else {
+                            sm.updateIndexOfArrayElement();
+                            state = NON_FIRST_ARRAY_ELEMENT_READY_STATE;
+                        }
+                    } else if (ch == '}' && isField) {
+                        state = sm.checkUnionAndFinalizeNonArrayObject();
+                    } else if (ch == ']' && !isField) {
+                        state = sm.checkUnionAndFinalizeArrayObject();
+                    } else if (sm.isWhitespace(ch, i)) {
+                        state = sm.skippedValueEnd();
+                    } else {
+                        sm.throwExpected(i, ",", isField ? "}" : "]");
+                    }
+                    break;
+                }
+                sm.index = i + 1;
+                return state;
+            }
+        }
+
         /**
          * Represents the state where an object field has ended.
          */
@@ -1065,8 +2123,7 @@ public class JsonParser {
                 char ch;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
-                    if (StateMachine.isWhitespace(ch)) {
+                    if (sm.isWhitespace(ch, i)) {
                         state = this;
                         continue;
                     } else if (ch == ',') {
@@ -1074,7 +2131,7 @@ public class JsonParser {
                     } else if (ch == '}') {
                         state = sm.checkUnionAndFinalizeNonArrayObject();
                     } else {
-                        StateMachine.throwExpected(",", "}");
+                        sm.throwExpected(i, ",", "}");
                     }
                     break;
                 }
@@ -1095,8 +2152,7 @@ public class JsonParser {
                 char ch;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
-                    if (StateMachine.isWhitespace(ch)) {
+                    if (sm.isWhitespace(ch, i)) {
                         state = this;
                         continue;
                     } else if (ch == ',') {
@@ -1105,7 +2161,7 @@ public class JsonParser {
                     } else if (ch == ']') {
                         state = sm.checkUnionAndFinalizeArrayObject();
                     } else {
-                        StateMachine.throwExpected(",", "]");
+                        sm.throwExpected(i, ",", "]");
                     }
                     break;
                 }
@@ -1180,7 +2236,6 @@ public class JsonParser {
                 char ch;
                 for (; i < count; i++) {
                     ch = buff[i];
-                    sm.processLocation(ch);
                     if ((ch >= '0' && ch <= '9') || (ch >= 'A' && ch <= 'F') || (ch >= 'a' && ch <= 'f')) {
                         sm.hexBuilder.append(ch);
                         if (sm.hexBuilder.length() >= 4) {
@@ -1193,7 +2248,11 @@ public class JsonParser {
                         continue;
                     }
                     this.reset(sm);
-                    StateMachine.throwExpected("hexadecimal value of an unicode character");
+                    if (ch == NEWLINE) {
+                        // A newline is reported at the start of the next line.
+                        sm.newLine(i);
+                    }
+                    sm.throwExpected(i, "hexadecimal value of an unicode character");
                     break;
                 }
                 sm.index = i + 1;
@@ -1271,7 +2330,6 @@ public class JsonParser {
                 char ch;
                 if (i < count) {
                     ch = buff[i];
-                    sm.processLocation(ch);
                     switch (ch) {
                         case '"':
                             sm.append(QUOTES);
@@ -1315,12 +2373,16 @@ public class JsonParser {
                             } else if (this.getSourceState() == STRING_ARRAY_ELEMENT_STATE) {
                                 state = STRING_AE_PROCESSING_STATE;
                             } else {
-                                throw new JsonParserException("unknown source '" + this.getSourceState() +
+                                throw sm.syntaxError(i, "unknown source '" + this.getSourceState() +
                                         "' in escape char processing state");
                             }
                             break;
                         default:
-                            StateMachine.throwExpected("escaped characters");
+                            if (ch == NEWLINE) {
+                                // A newline is reported at the start of the next line.
+                                sm.newLine(i);
+                            }
+                            sm.throwExpected(i, "escaped characters");
                     }
                 }
                 sm.index = i + 1;
@@ -22,11 +22,10 @@ import io.ballerina.lib.data.jsondata.utils.Constants;
 import io.ballerina.lib.data.jsondata.utils.DataUtils;
 import io.ballerina.lib.data.jsondata.utils.DiagnosticErrorCode;
 import io.ballerina.lib.data.jsondata.utils.DiagnosticLog;
+import io.ballerina.lib.data.jsondata.utils.StatePool;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.ArrayType;
-import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.MapType;
 import io.ballerina.runtime.api.types.PredefinedTypes;
@@ -35,7 +34,6 @@ import io.ballerina.runtime.api.types.TupleType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.types.UnionType;
-import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.utils.ValueUtils;
 import io.ballerina.runtime.api.values.BArray;
@@ -45,10 +43,10 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Stack;
 
 import static io.ballerina.lib.data.jsondata.utils.Constants.ENABLE_CONSTRAINT_VALIDATION;
@@ -60,10 +58,19 @@ import static io.ballerina.lib.data.jsondata.utils.Constants.ENABLE_CONSTRAINT_V
  */
 public class JsonTraverse {
 
-    private static final ThreadLocal<JsonTree> tlJsonTree = ThreadLocal.withInitial(JsonTree::new);
+    private static final StatePool<JsonTree> JSON_TREES = new StatePool<>(JsonTree::new);
+
+    /**
+     * Returns the pool of the states used to traverse, e.g. to monitor its size and hit rate.
+     *
+     * @return pool of the traversal states
+     */
+    public static StatePool<?> getJsonTreePool() {
+        return JSON_TREES;
+    }
 
     public static Object traverse(Object json, BMap<BString, Object> options, Type type) {
-        JsonTree jsonTree = tlJsonTree.get();
+        JsonTree jsonTree = JSON_TREES.acquire();
         try {
             Object allowDataProjection = options.get(Constants.ALLOW_DATA_PROJECTION);
             if (allowDataProjection instanceof Boolean) {
@@ -78,6 +85,7 @@ public class JsonTraverse {
             return jsonTree.traverseJson(json, type);
         } finally {
             jsonTree.reset();
+            JSON_TREES.release(jsonTree);
         }
     }
 
@@ -91,24 +99,30 @@ public class JsonTraverse {
     }
 
     private static class JsonTree {
-        Field currentField;
-        Stack<Map<String, Field>> fieldHierarchy = new Stack<>();
+        Stack<RecordBindingPlan> bindingPlans = new Stack<>();
+        Stack<BitSet> visitedFields = new Stack<>();
         Stack<Type> restType = new Stack<>();
         Deque<String> fieldNames = new ArrayDeque<>();
         Type rootArray;
         boolean allowDataProjection = false;
         boolean nilAsOptionalField = false;
         boolean absentAsNilableType = false;
+        // Number of unions of which a member is being tried.
+        int unionMemberDepth = 0;
+        // Number of enclosing values which are made read-only once traversed.
+        int readOnlyDepth = 0;
 
         void reset() {
-            currentField = null;
-            fieldHierarchy.clear();
+            bindingPlans.clear();
+            visitedFields.clear();
             restType.clear();
             fieldNames.clear();
             rootArray = null;
             allowDataProjection = false;
             nilAsOptionalField = false;
             absentAsNilableType = false;
+            unionMemberDepth = 0;
+            readOnlyDepth = 0;
         }
 
         private Object traverseJson(Object json, Type type) {
@@ -120,27 +134,26 @@ public class JsonTraverse {
             switch (referredType.getTag()) {
                 case TypeTags.RECORD_TYPE_TAG -> {
                     if (!(json instanceof BMap)) {
-                        throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, json);
+                        throw error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, json);
                     }
                     RecordType recordType = (RecordType) referredType;
-                    fieldHierarchy.push(JsonCreator.getAllFieldsInRecord(recordType));
-                    restType.push(recordType.getRestFieldType());
+                    RecordBindingPlan bindingPlan = RecordBindingPlan.of(recordType);
+                    pushBindingPlan(bindingPlan);
+                    restType.push(bindingPlan.getRestType());
                     if (recordType.isReadOnly()) {
-                        Object value = traverseMapJsonOrArrayJson(json,
-                                        ValueCreator.createMapValue(TypeCreator
-                                                .createMapType(PredefinedTypes.TYPE_ANYDATA)), referredType);
+                        Object value = traverseReadOnly(json, ValueCreator.createMapValue(TypeCreator
+                                .createMapType(PredefinedTypes.TYPE_ANYDATA)), referredType);
                         try {
-                            return ValueUtils.convert(JsonCreator.constructReadOnlyValue(value), recordType);
+                            return ValueUtils.convert(value, recordType);
                         } catch (BError e) {
-                            throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, json);
+                            throw error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, json);
                         }
                     }
-                    return traverseMapJsonOrArrayJson(json,
-                            ValueCreator.createRecordValue(type.getPackage(), type.getName()), referredType);
+                    return traverseMapJsonOrArrayJson(json, bindingPlan.createRecordValue(), referredType);
                 }
                 case TypeTags.ARRAY_TAG -> {
                     if (!(json instanceof BArray)) {
-                        throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, json);
+                        throw error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, json);
                     }
                     rootArray = referredType;
                     return traverseMapJsonOrArrayJson(json, ValueCreator.createArrayValue((ArrayType) referredType),
@@ -148,7 +161,7 @@ public class JsonTraverse {
                 }
                 case TypeTags.TUPLE_TAG -> {
                     if (!(json instanceof BArray)) {
-                        throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, json);
+                        throw error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, json);
                     }
                     rootArray = referredType;
                     return traverseMapJsonOrArrayJson(json, ValueCreator.createTupleValue((TupleType) referredType),
@@ -168,15 +181,16 @@ public class JsonTraverse {
                     }
 
                     for (Type memberType : unionType.getMemberTypes()) {
-                        int fieldHierarchySize = fieldHierarchy.size();
+                        int bindingPlansSize = bindingPlans.size();
                         int restTypeSize = restType.size();
                         int fieldNamesSize = fieldNames.size();
+                        unionMemberDepth++;
                         try {
                             return traverseJson(json, memberType);
                         } catch (Exception e) {
                             // Restore stack state after failed union member attempt
-                            while (fieldHierarchy.size() > fieldHierarchySize) {
-                                fieldHierarchy.pop();
+                            while (bindingPlans.size() > bindingPlansSize) {
+                                popBindingPlan();
                             }
                             while (restType.size() > restTypeSize) {
                                 restType.pop();
@@ -184,37 +198,62 @@ public class JsonTraverse {
                             while (fieldNames.size() > fieldNamesSize) {
                                 fieldNames.pollLast();
                             }
+                        } finally {
+                            unionMemberDepth--;
                         }
                     }
-                    throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, json);
+                    throw error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, json);
                 }
                 case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> {
-                    return json;
+                    return shareJsonValue(json);
                 }
                 case TypeTags.MAP_TAG -> {
                     MapType mapType = (MapType) referredType;
-                    fieldHierarchy.push(new HashMap<>());
+                    pushBindingPlan(RecordBindingPlan.EMPTY);
                     restType.push(mapType.getConstrainedType());
                     return traverseMapJsonOrArrayJson(json, ValueCreator.createMapValue(mapType), referredType);
                 }
                 case TypeTags.INTERSECTION_TAG -> {
                     Type effectiveType = ((IntersectionType) referredType).getEffectiveType();
                     if (!effectiveType.isReadOnly()) {
-                        throw DiagnosticLog.error(DiagnosticErrorCode.UNSUPPORTED_TYPE, type);
+                        throw error(DiagnosticErrorCode.UNSUPPORTED_TYPE, type);
                     }
                     for (Type constituentType : ((IntersectionType) referredType).getConstituentTypes()) {
                         if (constituentType.getTag() == TypeTags.READONLY_TAG) {
                             continue;
                         }
-                        return JsonCreator.constructReadOnlyValue(traverseJson(json, constituentType));
+                        readOnlyDepth++;
+                        try {
+                            return JsonCreator.freezeValue(traverseJson(json, constituentType));
+                        } finally {
+                            readOnlyDepth--;
+                        }
                     }
-                    throw DiagnosticLog.error(DiagnosticErrorCode.UNSUPPORTED_TYPE, type);
+                    throw error(DiagnosticErrorCode.UNSUPPORTED_TYPE, type);
                 }
                 default ->
-                        throw DiagnosticLog.error(DiagnosticErrorCode.INVALID_TYPE, type, PredefinedTypes.TYPE_ANYDATA);
+                        throw error(DiagnosticErrorCode.INVALID_TYPE, type, PredefinedTypes.TYPE_ANYDATA);
             }
         }
 
+        private Object traverseReadOnly(Object json, Object currentJsonNode, Type type) {
+            readOnlyDepth++;
+            try {
+                return JsonCreator.freezeValue(traverseMapJsonOrArrayJson(json, currentJsonNode, type));
+            } finally {
+                readOnlyDepth--;
+            }
+        }
+
+        /**
+         * Returns the given JSON value to be placed as is in the converted value. Within a value which is made
+         * read-only, the JSON value is copied if mutable, since it belongs to the caller and the converted values are
+         * frozen in place.
+         */
+        private Object shareJsonValue(Object json) {
+            return readOnlyDepth > 0 ? JsonCreator.constructReadOnlyValue(json) : json;
+        }
+
         private Object traverseMapJsonOrArrayJson(Object json, Object currentJsonNode, Type type) {
             if (json instanceof BMap bMap) {
                 return traverseMapValue(bMap, currentJsonNode);
@@ -223,21 +262,21 @@ public class JsonTraverse {
             } else {
                 // JSON value not compatible with map or array.
                 if (type.getTag() == TypeTags.RECORD_TYPE_TAG) {
-                    this.fieldHierarchy.pop();
+                    popBindingPlan();
                     this.restType.pop();
                 }
 
                 if (fieldNames.isEmpty()) {
-                    throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, json);
+                    throw error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, type, json);
                 }
-                throw DiagnosticLog.error(DiagnosticErrorCode.INVALID_TYPE_FOR_FIELD, getCurrentFieldPath());
+                throw fieldError(DiagnosticErrorCode.INVALID_TYPE_FOR_FIELD);
             }
         }
 
         private Object traverseMapValue(BMap<BString, Object> map, Object currentJsonNode) {
             for (BString key : map.getKeys()) {
-                currentField = fieldHierarchy.peek().remove(key.toString());
-                if (currentField == null) {
+                RecordBindingPlan.BoundField boundField = bindingPlans.peek().getField(key.toString());
+                if (boundField == null) {
                     // Add to the rest field
                     if (restType.peek() != null) {
                         Type restFieldType = TypeUtils.getReferredType(restType.peek());
@@ -247,19 +286,20 @@ public class JsonTraverse {
                     if (allowDataProjection) {
                         continue;
                     }
-                    this.fieldHierarchy.pop();
+                    popBindingPlan();
                     this.restType.pop();
-                    throw DiagnosticLog.error(DiagnosticErrorCode.UNDEFINED_FIELD, key);
+                    throw error(DiagnosticErrorCode.UNDEFINED_FIELD, key);
                 }
 
-                String fieldName = currentField.getFieldName();
+                visitedFields.peek().set(boundField.index());
+                String fieldName = boundField.name();
                 fieldNames.push(fieldName);
-                Type currentFieldType = TypeUtils.getReferredType(currentField.getFieldType());
+                Type currentFieldType = boundField.referredType();
                 int currentFieldTypeTag = currentFieldType.getTag();
                 Object mapValue = map.get(key);
 
                 if (nilAsOptionalField && !currentFieldType.isNilable() && mapValue == null
-                        && SymbolFlags.isFlagOn(currentField.getFlags(), SymbolFlags.OPTIONAL)) {
+                        && boundField.optional()) {
                     continue;
                 }
 
@@ -267,15 +307,20 @@ public class JsonTraverse {
                     case TypeTags.NULL_TAG, TypeTags.BOOLEAN_TAG, TypeTags.INT_TAG, TypeTags.FLOAT_TAG,
                             TypeTags.DECIMAL_TAG, TypeTags.STRING_TAG -> {
                         Object value = convertToBasicType(mapValue, currentFieldType);
-                        ((BMap<BString, Object>) currentJsonNode).put(StringUtils.fromString(fieldNames.pop()), value);
+                        fieldNames.pop();
+                        ((BMap<BString, Object>) currentJsonNode).put(boundField.key(), value);
                     }
                     default ->
-                        ((BMap<BString, Object>) currentJsonNode).put(StringUtils.fromString(fieldName),
+                        ((BMap<BString, Object>) currentJsonNode).put(boundField.key(),
                                 traverseJson(mapValue, currentFieldType));
                 }
             }
-            Map<String, Field> currentField = fieldHierarchy.pop();
-            checkOptionalFieldsAndLogError(currentField);
+            RecordBindingPlan bindingPlan = bindingPlans.pop();
+            RecordBindingPlan.BoundField missingField =
+                    bindingPlan.findMissingRequiredField(visitedFields.pop(), absentAsNilableType);
+            if (missingField != null) {
+                throw error(DiagnosticErrorCode.REQUIRED_FIELD_NOT_PRESENT, missingField.name());
+            }
             restType.pop();
             return currentJsonNode;
         }
@@ -288,7 +333,7 @@ public class JsonTraverse {
                     long sourceArraySize = array.getLength();
                     if (!allowDataProjection && arrayType.getState() == ArrayType.ArrayState.CLOSED
                             && expectedArraySize < sourceArraySize) {
-                        throw DiagnosticLog.error(DiagnosticErrorCode.ARRAY_SIZE_MISMATCH);
+                        throw error(DiagnosticErrorCode.ARRAY_SIZE_MISMATCH);
                     }
 
                     Type elementType = arrayType.getElementType();
@@ -310,7 +355,7 @@ public class JsonTraverse {
                         } else if (restType != null) {
                             nextJsonNode = traverseJson(jsonMember, restType);
                         } else if (!allowDataProjection) {
-                            throw DiagnosticLog.error(DiagnosticErrorCode.ARRAY_SIZE_MISMATCH);
+                            throw error(DiagnosticErrorCode.ARRAY_SIZE_MISMATCH);
                         } else {
                             continue;
                         }
@@ -331,7 +376,7 @@ public class JsonTraverse {
             Object nextJsonValue;
             switch (restFieldType.getTag()) {
                 case TypeTags.ANYDATA_TAG, TypeTags.JSON_TAG ->
-                        ((BMap<BString, Object>) currentJsonNode).put(key, jsonMember);
+                        ((BMap<BString, Object>) currentJsonNode).put(key, shareJsonValue(jsonMember));
                 case TypeTags.BOOLEAN_TAG, TypeTags.INT_TAG, TypeTags.FLOAT_TAG, TypeTags.DECIMAL_TAG,
                         TypeTags.STRING_TAG -> {
                     ((BMap<BString, Object>) currentJsonNode).put(key, convertToBasicType(jsonMember, restFieldType));
@@ -343,15 +388,14 @@ public class JsonTraverse {
             }
         }
 
-        private void checkOptionalFieldsAndLogError(Map<String, Field> currentField) {
-            currentField.values().forEach(field -> {
-                if (field.getFieldType().isNilable() && absentAsNilableType) {
-                    return;
-                }
-                if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED)) {
-                    throw DiagnosticLog.error(DiagnosticErrorCode.REQUIRED_FIELD_NOT_PRESENT, field.getFieldName());
-                }
-            });
+        private void pushBindingPlan(RecordBindingPlan bindingPlan) {
+            bindingPlans.push(bindingPlan);
+            visitedFields.push(new BitSet(bindingPlan.size()));
+        }
+
+        private void popBindingPlan() {
+            bindingPlans.pop();
+            visitedFields.pop();
         }
 
         private Object convertToBasicType(Object json, Type targetType) {
@@ -359,13 +403,33 @@ public class JsonTraverse {
                 return ValueUtils.convert(json, targetType);
             } catch (BError e) {
                 if (fieldNames.isEmpty()) {
-                    throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, targetType, String.valueOf(json));
+                    throw error(DiagnosticErrorCode.INCOMPATIBLE_TYPE, targetType, String.valueOf(json));
                 }
-                throw DiagnosticLog.error(DiagnosticErrorCode.INCOMPATIBLE_VALUE_FOR_FIELD, String.valueOf(json),
-                        targetType, getCurrentFieldPath());
+                throw fieldError(DiagnosticErrorCode.INCOMPATIBLE_VALUE_FOR_FIELD, String.valueOf(json), targetType);
             }
         }
 
+        /**
+         * Creates the error to be thrown for the given diagnostic. While a member of a union is tried, the error
+         * would be discarded if another member matches, or replaced by the error of the union otherwise, hence
+         * the shared {@link UnionMemberMismatch} is returned instead.
+         */
+        private RuntimeException error(DiagnosticErrorCode code, Object... args) {
+            if (unionMemberDepth > 0) {
+                return UnionMemberMismatch.INSTANCE;
+            }
+            return DiagnosticLog.error(code, args);
+        }
+
+        private RuntimeException fieldError(DiagnosticErrorCode code, Object... args) {
+            if (unionMemberDepth > 0) {
+                return UnionMemberMismatch.INSTANCE;
+            }
+            Object[] argsWithPath = Arrays.copyOf(args, args.length + 1);
+            argsWithPath[args.length] = getCurrentFieldPath();
+            return DiagnosticLog.error(code, argsWithPath);
+        }
+
         private String getCurrentFieldPath() {
             Iterator<String> itr = fieldNames.descendingIterator();
             StringBuilder sb = new StringBuilder(itr.hasNext() ? itr.next() : "");
@@ -375,4 +439,17 @@ public class JsonTraverse {
             return sb.toString();
         }
     }
+
+    /**
+     * Signals that a JSON value does not match the member of a union being tried. It carries neither a message nor
+     * a stack trace, since it is never reported.
+     */
+    private static final class UnionMemberMismatch extends RuntimeException {
+
+        private static final UnionMemberMismatch INSTANCE = new UnionMemberMismatch();
+
+        private UnionMemberMismatch() {
+            super(null, null, false, false);
+        }
+    }
 }
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.json;
+
+import io.ballerina.lib.data.jsondata.utils.DiagnosticErrorCode;
+import io.ballerina.lib.data.jsondata.utils.DiagnosticLog;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A JSON value which is decoded only when it is accessed. The value refers to a range of the UTF-8 encoded source
+ * document, and the members of objects and arrays are located using the structural index of the document, in which
+ * the nested objects and arrays are skipped using the positions of their closing brackets.
+ * <p>
+ * Only the nesting of the brackets is checked up front, hence the other syntax errors are reported when the
+ * enclosing value is accessed.
+ *
+ * @since 1.1.4
+ */
+final class LazyJsonValue {
+
+    private static final String OBJECT = "object";
+    private static final String ARRAY = "array";
+
+    private final Document document;
+    private final int from;
+    private final int to;
+    // Index of the first structural character of the value, or -1 if the value has none.
+    private final int entry;
+
+    private LazyJsonValue(Document document, int from, int to, int entry) {
+        this.document = document;
+        this.from = from;
+        this.to = to;
+        this.entry = entry;
+    }
+
+    /**
+     * Indexes the given UTF-8 encoded JSON document. The bytes are referred to by the values read from the document,
+     * hence must not be modified afterwards.
+     *
+     * @param bytes  bytes which contain the JSON document
+     * @param length number of bytes in the JSON document
+     * @return the root value or an error if the brackets of the document are not balanced
+     */
+    static Object of(byte[] bytes, int length) {
+        StructuralIndex index = StructuralIndex.build(bytes, 0, length);
+        int[] closing = matchBrackets(index);
+        Document document = new Document(bytes, index, closing);
+        int from = skipWhitespace(bytes, 0, length);
+        int to = trimWhitespace(bytes, from, length);
+        LazyJsonValue root = new LazyJsonValue(document, from, to, document.entryAt(0, from));
+        if (closing == null) {
+            return root.invalid();
+        }
+        return root;
+    }
+
+    /**
+     * Returns the member of this object with the given key.
+     *
+     * @param key key of the member
+     * @return the member, {@code null} if there is no such member, or an error
+     */
+    Object get(BString key) {
+        if (!isContainer('{')) {
+            return DiagnosticLog.error(DiagnosticErrorCode.INVALID_TYPE, kind(), OBJECT);
+        }
+        byte[] keyBytes = key.getValue().getBytes(StandardCharsets.UTF_8);
+        StructuralIndex index = document.index;
+        int end = document.closing[entry];
+        int i = entry + 1;
+        while (i < end) {
+            if (index.character(i) != '"' || index.character(i + 1) != '"' || index.character(i + 2) != ':') {
+                return invalid();
+            }
+            int valueEnd = skipValue(i + 3);
+            if (valueEnd < 0) {
+                return invalid();
+            }
+            Object matches = keyMatches(i, keyBytes, key);
+            if (matches instanceof BError) {
+                return matches;
+            }
+            if ((Boolean) matches) {
+                return member(index.position(i + 2) + 1, index.position(valueEnd), i + 3);
+            }
+            i = valueEnd + 1;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the member of this array at the given index.
+     *
+     * @param memberIndex index of the member
+     * @return the member, {@code null} if the index is out of range, or an error
+     */
+    Object get(long memberIndex) {
+        if (!isContainer('[')) {
+            return DiagnosticLog.error(DiagnosticErrorCode.INVALID_TYPE, kind(), ARRAY);
+        }
+        if (isEmptyContainer()) {
+            return null;
+        }
+        StructuralIndex index = document.index;
+        int end = document.closing[entry];
+        int separator = entry;
+        for (long count = 0; separator < end; count++) {
+            int valueEnd = skipValue(separator + 1);
+            if (valueEnd < 0) {
+                return invalid();
+            }
+            if (count == memberIndex) {
+                return member(index.position(separator) + 1, index.position(valueEnd), separator + 1);
+            }
+            separator = valueEnd;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the keys of this object.
+     *
+     * @return the keys or an error
+     */
+    Object keys() {
+        if (!isContainer('{')) {
+            return DiagnosticLog.error(DiagnosticErrorCode.INVALID_TYPE, kind(), OBJECT);
+        }
+        List<BString> keys = new ArrayList<>();
+        StructuralIndex index = document.index;
+        int end = document.closing[entry];
+        int i = entry + 1;
+        while (i < end) {
+            if (index.character(i) != '"' || index.character(i + 1) != '"' || index.character(i + 2) != ':') {
+                return invalid();
+            }
+            int valueEnd = skipValue(i + 3);
+            if (valueEnd < 0) {
+                return invalid();
+            }
+            Object key = decodeKey(i);
+            if (key instanceof BError) {
+                return key;
+            }
+            keys.add((BString) key);
+            i = valueEnd + 1;
+        }
+        return keys;
+    }
+
+    /**
+     * Decodes this value to the expected type.
+     *
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param typed type descriptor of expected type
+     * @return the decoded value or an error
+     */
+    Object decode(BMap<BString, Object> options, BTypedesc typed) {
+        try {
+            return JsonParser.parse(document.bytes, from, to - from, options, typed);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    private Object member(int valueFrom, int valueTo, int valueEntry) {
+        byte[] bytes = document.bytes;
+        int memberFrom = skipWhitespace(bytes, valueFrom, valueTo);
+        int memberTo = trimWhitespace(bytes, memberFrom, valueTo);
+        if (memberFrom == memberTo) {
+            return invalid();
+        }
+        return new LazyJsonValue(document, memberFrom, memberTo, document.entryAt(valueEntry, memberFrom));
+    }
+
+    /**
+     * Skips the member value starting at the given structural character.
+     *
+     * @return index of the comma or the closing bracket after the value, or -1 if there is none
+     */
+    private int skipValue(int i) {
+        StructuralIndex index = document.index;
+        byte ch = index.character(i);
+        if (ch == '{' || ch == '[') {
+            i = document.closing[i] + 1;
+        } else if (ch == '"') {
+            i += 2;
+        }
+        int end = document.closing[entry];
+        if (i > end || i < end && index.character(i) != ',') {
+            return -1;
+        }
+        return i;
+    }
+
+    private Object keyMatches(int quote, byte[] keyBytes, BString key) {
+        byte[] bytes = document.bytes;
+        int keyFrom = document.index.position(quote) + 1;
+        int keyTo = document.index.position(quote + 1);
+        for (int i = keyFrom; i < keyTo; i++) {
+            if (bytes[i] == '\\') {
+                Object decodedKey = decodeKey(quote);
+                return decodedKey instanceof BError ? decodedKey : decodedKey.equals(key);
+            }
+        }
+        return Arrays.equals(bytes, keyFrom, keyTo, keyBytes, 0, keyBytes.length);
+    }
+
+    private Object decodeKey(int quote) {
+        int keyFrom = document.index.position(quote);
+        int keyTo = document.index.position(quote + 1) + 1;
+        try {
+            return JsonParser.parse(document.bytes, keyFrom, keyTo - keyFrom, ValueCreator.createMapValue(),
+                    PredefinedTypes.TYPE_STRING);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    private boolean isContainer(char openingBracket) {
+        return entry >= 0 && document.index.character(entry) == openingBracket;
+    }
+
+    private boolean isEmptyContainer() {
+        int end = document.closing[entry];
+        return end == entry + 1 && skipWhitespace(document.bytes, from + 1, to - 1) == to - 1;
+    }
+
+    private String kind() {
+        if (from == to) {
+            return "";
+        }
+        return switch (document.bytes[from]) {
+            case '{' -> OBJECT;
+            case '[' -> ARRAY;
+            case '"' -> "string";
+            default -> new String(document.bytes, from, to - from, StandardCharsets.UTF_8);
+        };
+    }
+
+    /**
+     * Returns the error reported by the parser for this value, which is not a well-formed JSON value.
+     */
+    private BError invalid() {
+        try {
+            JsonParser.parse(document.bytes, from, to - from, ValueCreator.createMapValue(),
+                    PredefinedTypes.TYPE_JSON);
+        } catch (BError e) {
+            return e;
+        }
+        return DiagnosticLog.createJsonError("invalid JSON document");
+    }
+
+    private static int[] matchBrackets(StructuralIndex index) {
+        int[] closing = new int[index.size()];
+        int[] openings = new int[64];
+        int depth = 0;
+        for (int i = 0; i < index.size(); i++) {
+            byte ch = index.character(i);
+            if (ch == '{' || ch == '[') {
+                if (depth == openings.length) {
+                    openings = Arrays.copyOf(openings, depth * 2);
+                }
+                openings[depth++] = i;
+            } else if (ch == '}' || ch == ']') {
+                if (depth == 0) {
+                    return null;
+                }
+                int opening = openings[--depth];
+                if (index.character(opening) != (ch == '}' ? '{' : '[')) {
+                    return null;
+                }
+                closing[opening] = i;
+            }
+        }
+        return depth == 0 ? closing : null;
+    }
+
+    private static int skipWhitespace(byte[] bytes, int from, int to) {
+        int i = from;
+        while (i < to && isWhitespace(bytes[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int trimWhitespace(byte[] bytes, int from, int to) {
+        int i = to;
+        while (i > from && isWhitespace(bytes[i - 1])) {
+            i--;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    /**
+     * Source document shared by the values read from it.
+     *
+     * @param bytes UTF-8 encoded JSON document
+     * @param index structural index of the document
+     * @param closing index of the closing bracket of each opening bracket in the structural index
+     */
+    private record Document(byte[] bytes, StructuralIndex index, int[] closing) {
+
+        int entryAt(int i, int position) {
+            return i < index.size() && index.position(i) == position ? i : -1;
+        }
+    }
+}
@@ -18,15 +18,19 @@
 
 package io.ballerina.lib.data.jsondata.json;
 
+import io.ballerina.lib.data.ModuleUtils;
 import io.ballerina.lib.data.jsondata.io.BallerinaByteBlockInputStream;
+import io.ballerina.lib.data.jsondata.io.DataReaderThreadPool;
 import io.ballerina.lib.data.jsondata.utils.Constants;
 import io.ballerina.lib.data.jsondata.utils.DiagnosticErrorCode;
 import io.ballerina.lib.data.jsondata.utils.DiagnosticLog;
+import io.ballerina.lib.data.jsondata.utils.StatePool;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
@@ -39,10 +43,15 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BTypedesc;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -58,6 +67,12 @@ import static io.ballerina.lib.data.jsondata.utils.DataReader.resolveNextMethod;
  */
 public class Native {
 
+    private static final String ELEMENT_ITERATOR = "ElementIterator";
+    private static final String LAZY_JSON_VALUE = "LazyJsonValue";
+    private static final String TAPE_DOCUMENT = "TapeDocument";
+    private static final String POOL_STATS = "PoolStats";
+    private static final String STATE_POOL_STATS = "StatePoolStats";
+
     public static Object parseAsType(Object json, BMap<BString, Object> options, BTypedesc typed) {
         try {
             return JsonTraverse.traverse(json, options, typed);
@@ -74,28 +89,244 @@ public class Native {
         }
     }
 
-    public static Object parseBytes(BArray json, BMap<BString, Object> options, BTypedesc typed) {
+    public static Object parseBytes(BArray json, BMap<BString, Object> options, BTypedesc typed, long offset,
+                                    long length) {
+        int size = json.size();
+        if (offset < 0 || length < 0 || offset > size - length) {
+            return DiagnosticLog.error(DiagnosticErrorCode.INVALID_BYTE_RANGE, offset, length, size);
+        }
         try {
-            byte[] bytes = json.getBytes();
-            return JsonParser.parse(new InputStreamReader(new ByteArrayInputStream(bytes)), options, typed);
+            return JsonParser.parse(json.getByteArray(), (int) offset, (int) length, options, typed);
         } catch (BError e) {
             return e;
         }
     }
 
+    public static Object parseBytesParallel(Environment env, BArray json, BMap<BString, Object> options,
+                                            BTypedesc typed) {
+        return env.yieldAndRun(() -> {
+            try {
+                return ParallelJsonParser.parse(json.getByteArray(), 0, json.size(), options, typed);
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
     public static Object parseStream(Environment env, BStream json, BMap<BString, Object> options, BTypedesc typed) {
         final BObject iteratorObj = json.getIteratorObj();
-        return env.yieldAndRun(() -> {
-            BallerinaByteBlockInputStream byteBlockSteam = new BallerinaByteBlockInputStream(env, iteratorObj,
-                    resolveNextMethod(iteratorObj), resolveCloseMethod(iteratorObj));
-            Object result = JsonParser.parse(new InputStreamReader(byteBlockSteam), options, typed);
+        BallerinaByteBlockInputStream byteBlockSteam = new BallerinaByteBlockInputStream(env, iteratorObj,
+                resolveNextMethod(iteratorObj), resolveCloseMethod(iteratorObj));
+        byteBlockSteam.startReadAhead();
+        try {
+            // The strand is yielded only while a block is awaited, and the parsing state is kept in between.
+            Object result = JsonParser.parse(() -> env.yieldAndRun(byteBlockSteam::readBlock), options, typed);
             if (byteBlockSteam.getError() != null) {
                 return byteBlockSteam.getError();
             }
             return result;
+        } catch (BError e) {
+            return e;
+        } finally {
+            byteBlockSteam.stopReadAhead();
+        }
+    }
+
+    public static void setBufferSizes(long readBufferSize, long retainedBufferSize) {
+        JsonParser.setBufferSizes(readBufferSize, retainedBufferSize);
+    }
+
+    public static void setStreamReadAhead(long blocks, boolean onVirtualThreads, long poolSize) {
+        BallerinaByteBlockInputStream.setReadAheadBlocks((int) Math.max(0, Math.min(blocks, Short.MAX_VALUE)));
+        DataReaderThreadPool.setMaxPoolSize((int) Math.max(1, Math.min(poolSize, Short.MAX_VALUE)));
+        DataReaderThreadPool.setReadAheadExecutor(onVirtualThreads ? DataReaderThreadPool.VIRTUAL_THREAD_EXECUTOR
+                : DataReaderThreadPool.EXECUTOR_SERVICE);
+    }
+
+    public static BMap<BString, Object> getPoolStats() {
+        BMap<BString, Object> stats = ValueCreator.createRecordValue(ModuleUtils.getModule(), POOL_STATS);
+        stats.put(StringUtils.fromString("parser"), createStatePoolStats(JsonParser.getStateMachinePool()));
+        stats.put(StringUtils.fromString("traverser"), createStatePoolStats(JsonTraverse.getJsonTreePool()));
+        return stats;
+    }
+
+    private static BMap<BString, Object> createStatePoolStats(StatePool<?> pool) {
+        BMap<BString, Object> stats = ValueCreator.createRecordValue(ModuleUtils.getModule(), STATE_POOL_STATS);
+        stats.put(StringUtils.fromString("size"), (long) pool.size());
+        stats.put(StringUtils.fromString("capacity"), (long) pool.capacity());
+        stats.put(StringUtils.fromString("hitRate"), pool.hitRate());
+        return stats;
+    }
+
+    public static void initParser(BObject parser, BTypedesc typed, BMap<BString, Object> options) {
+        parser.addNativeData(Constants.PUSH_PARSER, new PushParser(options, typed));
+    }
+
+    public static Object feed(BObject parser, BArray chunk) {
+        PushParser pushParser = (PushParser) parser.getNativeData(Constants.PUSH_PARSER);
+        return pushParser.feed(chunk.getByteArray(), 0, chunk.size());
+    }
+
+    public static Object finish(BObject parser) {
+        PushParser pushParser = (PushParser) parser.getNativeData(Constants.PUSH_PARSER);
+        return pushParser.finish();
+    }
+
+    public static Object parseFile(Environment env, BString filePath, BMap<BString, Object> options,
+                                   BTypedesc typed) {
+        return env.yieldAndRun(() -> {
+            try {
+                return JsonParser.parse(Path.of(filePath.getValue()), options, typed);
+            } catch (InvalidPathException e) {
+                return DiagnosticLog.error(DiagnosticErrorCode.JSON_READER_FAILURE, e.getMessage());
+            } catch (BError e) {
+                return e;
+            }
+        });
+    }
+
+    public static Object parseLines(Environment env, Object json, BMap<BString, Object> options, BTypedesc typed) {
+        if (json instanceof BArray bytes) {
+            return env.yieldAndRun(() -> {
+                try {
+                    return new JsonLinesParser(options, typed).parse(bytes.getByteArray(), 0, bytes.size());
+                } catch (BError e) {
+                    return e;
+                }
+            });
+        }
+
+        final BObject iteratorObj = ((BStream) json).getIteratorObj();
+        return env.yieldAndRun(() -> {
+            BallerinaByteBlockInputStream byteBlockSteam = new BallerinaByteBlockInputStream(env, iteratorObj,
+                    resolveNextMethod(iteratorObj), resolveCloseMethod(iteratorObj));
+            byteBlockSteam.startReadAhead();
+            try {
+                Object result = new JsonLinesParser(options, typed).parse(byteBlockSteam);
+                if (byteBlockSteam.getError() != null) {
+                    return byteBlockSteam.getError();
+                }
+                return result;
+            } catch (IOException e) {
+                return DiagnosticLog.error(DiagnosticErrorCode.JSON_READER_FAILURE, e.getMessage());
+            } catch (BError e) {
+                return e;
+            } finally {
+                byteBlockSteam.stopReadAhead();
+            }
+        });
+    }
+
+    public static Object parseLinesFromFile(Environment env, BString filePath, BMap<BString, Object> options,
+                                            BTypedesc typed) {
+        return env.yieldAndRun(() -> {
+            try (InputStream inputStream = Files.newInputStream(Path.of(filePath.getValue()))) {
+                return new JsonLinesParser(options, typed).parse(inputStream);
+            } catch (IOException | InvalidPathException e) {
+                return DiagnosticLog.error(DiagnosticErrorCode.JSON_READER_FAILURE, e.getMessage());
+            } catch (BError e) {
+                return e;
+            }
         });
     }
 
+    public static Object parseAsStream(BStream json, BMap<BString, Object> options, BTypedesc typed) {
+        BObject iterator = ValueCreator.createObjectValue(ModuleUtils.getModule(), ELEMENT_ITERATOR, json, typed,
+                options);
+        Type completionType = TypeCreator.createUnionType(DiagnosticLog.getErrorType(), PredefinedTypes.TYPE_NULL);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(typed.getDescribingType(), completionType),
+                iterator);
+    }
+
+    public static void initElementParser(BObject iterator, BTypedesc typed, BMap<BString, Object> options) {
+        iterator.addNativeData(Constants.PUSH_PARSER, new ElementStreamParser(options, typed));
+    }
+
+    public static Object feedElementParser(BObject iterator, BArray chunk) {
+        return feed(iterator, chunk);
+    }
+
+    public static Object finishElementParser(BObject iterator) {
+        return ((PushParser) iterator.getNativeData(Constants.PUSH_PARSER)).finish();
+    }
+
+    public static boolean hasNextElement(BObject iterator) {
+        return ((ElementStreamParser) iterator.getNativeData(Constants.PUSH_PARSER)).hasNextElement();
+    }
+
+    public static Object nextElement(BObject iterator) {
+        return ((ElementStreamParser) iterator.getNativeData(Constants.PUSH_PARSER)).nextElement();
+    }
+
+    public static Object parseLazy(BArray json) {
+        // A read-only array cannot be modified while the values read from it are in use.
+        byte[] bytes = json.isFrozen() ? json.getByteArray() : Arrays.copyOf(json.getByteArray(), json.size());
+        return createLazyJson(LazyJsonValue.of(bytes, json.size()));
+    }
+
+    public static Object getLazyMember(BObject lazyJson, BString key) {
+        return createLazyJson(getLazyJsonValue(lazyJson).get(key));
+    }
+
+    public static Object getLazyElement(BObject lazyJson, long index) {
+        return createLazyJson(getLazyJsonValue(lazyJson).get(index));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object getLazyKeys(BObject lazyJson) {
+        Object keys = getLazyJsonValue(lazyJson).keys();
+        if (keys instanceof BError) {
+            return keys;
+        }
+        return ValueCreator.createArrayValue(((List<BString>) keys).toArray(BString[]::new));
+    }
+
+    public static Object decodeLazy(BObject lazyJson, BMap<BString, Object> options, BTypedesc typed) {
+        return getLazyJsonValue(lazyJson).decode(options, typed);
+    }
+
+    private static Object createLazyJson(Object value) {
+        if (!(value instanceof LazyJsonValue)) {
+            return value;
+        }
+        BObject lazyJson = ValueCreator.createObjectValue(ModuleUtils.getModule(), LAZY_JSON_VALUE);
+        lazyJson.addNativeData(Constants.LAZY_JSON_VALUE, value);
+        return lazyJson;
+    }
+
+    private static LazyJsonValue getLazyJsonValue(BObject lazyJson) {
+        return (LazyJsonValue) lazyJson.getNativeData(Constants.LAZY_JSON_VALUE);
+    }
+
+    public static Object parseDocument(Object json) {
+        Tape tape;
+        if (json instanceof BString str) {
+            tape = Tape.of(str.getValue().toCharArray(), str.getValue().length());
+        } else {
+            BArray bytes = (BArray) json;
+            tape = Tape.of(bytes.getByteArray(), 0, bytes.size());
+        }
+        if (!tape.isRecorded()) {
+            // Report the error of a document which is not well-formed, as it would be reported when parsed.
+            try {
+                JsonParser.bind(tape, ValueCreator.createMapValue(), PredefinedTypes.TYPE_JSON);
+            } catch (BError e) {
+                return e;
+            }
+        }
+        BObject document = ValueCreator.createObjectValue(ModuleUtils.getModule(), TAPE_DOCUMENT);
+        document.addNativeData(Constants.TAPE, tape);
+        return document;
+    }
+
+    public static Object bindDocument(BObject document, BMap<BString, Object> options, BTypedesc typed) {
+        try {
+            return JsonParser.bind((Tape) document.getNativeData(Constants.TAPE), options, typed);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
     public static Object toJson(Object value) {
         return toJson(value, new HashSet<>());
     }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.json;
+
+import io.ballerina.lib.data.jsondata.io.DataReaderThreadPool;
+import io.ballerina.lib.data.jsondata.utils.Constants;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Parses a large JSON document which is an array in two phases. The first phase finds the boundaries of the members
+ * of the root array in a single pass which tracks only the nesting depth and the strings. The second phase binds
+ * slices of the members to the member type in parallel on the shared fork-join pool, and the results are stitched
+ * into the root array in order.
+ * <p>
+ * Any other document, as well as a document of which a slice fails, is parsed sequentially, so that the errors are
+ * the same as those of the sequential parser.
+ *
+ * @since 1.1.4
+ */
+public class ParallelJsonParser {
+
+    private static final int MIN_SLICE_SIZE = 1 << 16;
+    private static final int SLICES_PER_WORKER = 4;
+
+    private ParallelJsonParser() {
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given byte range, validates constraints, and returns the value.
+     *
+     * @param bytes   bytes which contain the JSON content
+     * @param offset  index of the first byte of the JSON content
+     * @param length  number of bytes of the JSON content
+     * @param options represent the options that can be used to modify the behaviour of conversion
+     * @param typed type descriptor of expected type
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, int offset, int length, BMap<BString, Object> options,
+                               BTypedesc typed) throws BError {
+        Type type = TypeUtils.getReferredType(typed.getDescribingType());
+        if (length < 2 * MIN_SLICE_SIZE || type.getTag() != TypeTags.ARRAY_TAG
+                || ((ArrayType) type).getState() == ArrayType.ArrayState.CLOSED) {
+            return JsonParser.parse(bytes, offset, length, options, typed);
+        }
+
+        int[] separators = findMemberSeparators(bytes, offset, offset + length);
+        if (separators == null) {
+            return JsonParser.parse(bytes, offset, length, options, typed);
+        }
+
+        BArray result = parseSlices(bytes, separators, options, (ArrayType) type,
+                (Long) options.get(Constants.PARALLELISM));
+        if (result == null) {
+            return JsonParser.parse(bytes, offset, length, options, typed);
+        }
+        return JsonParser.validateConstraints(result, options, typed);
+    }
+
+    private static BArray parseSlices(byte[] bytes, int[] separators, BMap<BString, Object> options,
+                                      ArrayType type, long parallelism) {
+        int workers = DataReaderThreadPool.FORK_JOIN_POOL.getParallelism();
+        if (parallelism > 0) {
+            workers = (int) Math.min(parallelism, workers);
+        }
+        // Bounds the slices being parsed when the parallelism is set, else null.
+        Semaphore permits = parallelism > 0 ? new Semaphore((int) Math.min(parallelism, Short.MAX_VALUE)) : null;
+        int last = separators.length - 1;
+        int sliceSize = Math.max(MIN_SLICE_SIZE, (separators[last] - separators[0]) / (workers * SLICES_PER_WORKER));
+
+        // A slice is formed by the members between two separators.
+        List<ForkJoinTask<Object>> tasks = new ArrayList<>();
+        int start = 0;
+        while (start < last) {
+            int end = start + 1;
+            while (end < last && separators[end] - separators[start] < sliceSize) {
+                end++;
+            }
+            int from = separators[start] + 1;
+            int to = separators[end];
+            if (last > 1 && skipWhitespace(bytes, from, to) == to) {
+                // A missing member, which is valid only in an empty array.
+                tasks.forEach(t -> t.cancel(false));
+                return null;
+            }
+            if (permits != null) {
+                permits.acquireUninterruptibly();
+            }
+            tasks.add(DataReaderThreadPool.FORK_JOIN_POOL.submit(() -> {
+                try {
+                    return JsonParser.parseArrayMembers(bytes, from, to, options, type);
+                } catch (BError e) {
+                    return e;
+                } finally {
+                    if (permits != null) {
+                        permits.release();
+                    }
+                }
+            }));
+            start = end;
+        }
+
+        BArray result = ValueCreator.createArrayValue(type);
+        long index = 0;
+        for (ForkJoinTask<Object> task : tasks) {
+            Object slice = task.join();
+            if (slice instanceof BError) {
+                tasks.forEach(t -> t.cancel(false));
+                return null;
+            }
+            BArray members = (BArray) slice;
+            for (int i = 0; i < members.size(); i++) {
+                result.add(index++, members.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the positions of the opening bracket, the commas and the closing bracket of the root array. Only the
+     * nesting depth is tracked, and strings are jumped over, so nothing but the positions is recorded.
+     *
+     * @return the positions or {@code null} if the brackets of the document do not form a single array
+     */
+    private static int[] findMemberSeparators(byte[] bytes, int from, int to) {
+        int start = skipWhitespace(bytes, from, to);
+        if (start == to || bytes[start] != '[') {
+            return null;
+        }
+
+        int[] separators = new int[1024];
+        int count = 0;
+        separators[count++] = start;
+        int depth = 1;
+        for (int i = start + 1; i < to; i++) {
+            switch (bytes[i]) {
+                case '"' -> i = stringEnd(bytes, i + 1, to);
+                case '[', '{' -> depth++;
+                case ']', '}' -> {
+                    if (--depth == 0) {
+                        if (skipWhitespace(bytes, i + 1, to) != to) {
+                            return null;
+                        }
+                        separators = add(separators, count++, i);
+                        return Arrays.copyOf(separators, count);
+                    }
+                }
+                case ',' -> {
+                    if (depth == 1) {
+                        separators = add(separators, count++, i);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the index of the quote which ends the string starting at the given index, or {@code to} if the string
+     * is not terminated.
+     */
+    private static int stringEnd(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\\') {
+                i++;
+            } else if (bytes[i] == '"') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private static int[] add(int[] values, int index, int value) {
+        int[] result = index == values.length ? Arrays.copyOf(values, index * 2) : values;
+        result[index] = value;
+        return result;
+    }
+
+    private static int skipWhitespace(byte[] bytes, int from, int to) {
+        int i = from;
+        while (i < to && (bytes[i] == ' ' || bytes[i] == '\n' || bytes[i] == '\r' || bytes[i] == '\t')) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.json;
+
+import io.ballerina.lib.data.jsondata.utils.DiagnosticErrorCode;
+import io.ballerina.lib.data.jsondata.utils.DiagnosticLog;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.util.function.Consumer;
+
+/**
+ * Parser which is fed with the UTF-8 encoded JSON document chunk by chunk, as the bytes become available. The
+ * parser owns its state machine, which retains the parsing state between the chunks, hence a chunk can end anywhere
+ * in the document including in the middle of a multi-byte character.
+ * <p>
+ * Once an error is reported, the parser keeps reporting the same error.
+ *
+ * @since 1.1.4
+ */
+public class PushParser {
+
+    private static final int BUFFER_SIZE = 1024;
+
+    private final JsonParser.StateMachine sm = new JsonParser.StateMachine();
+    private final char[] buff = new char[BUFFER_SIZE];
+    private final BMap<BString, Object> options;
+    private final BTypedesc typed;
+    private BError error;
+    private boolean finished;
+
+    public PushParser(BMap<BString, Object> options, BTypedesc typed) {
+        this(options, typed, typed.getDescribingType(), null);
+    }
+
+    PushParser(BMap<BString, Object> options, BTypedesc typed, Type type, Consumer<Object> rootElementConsumer) {
+        this.options = options;
+        this.typed = typed;
+        sm.setRootElementConsumer(rootElementConsumer);
+        try {
+            sm.begin(options, type);
+        } catch (BError e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Parses the given chunk of the JSON document.
+     *
+     * @param bytes  bytes of the chunk
+     * @param offset index of the first byte of the chunk
+     * @param length number of bytes in the chunk
+     * @return an error if the content read so far is invalid, else {@code null}
+     */
+    public synchronized BError feed(byte[] bytes, int offset, int length) {
+        if (error != null) {
+            return error;
+        }
+        if (finished) {
+            return DiagnosticLog.error(DiagnosticErrorCode.PARSER_FINISHED);
+        }
+        try {
+            sm.consume(bytes, offset, offset + length, buff);
+            return null;
+        } catch (JsonParser.JsonParserException e) {
+            return fail(sm.parserError(e));
+        } catch (BError e) {
+            return fail(e);
+        }
+    }
+
+    /**
+     * Signals the end of the JSON document and returns the parsed value.
+     *
+     * @return the parsed value or an error
+     */
+    public synchronized Object finish() {
+        if (error != null) {
+            return error;
+        }
+        if (finished) {
+            return DiagnosticLog.error(DiagnosticErrorCode.PARSER_FINISHED);
+        }
+        try {
+            Object value = sm.end(buff);
+            finished = true;
+            sm.reset();
+            return complete(value);
+        } catch (JsonParser.JsonParserException e) {
+            return fail(sm.parserError(e));
+        } catch (BError e) {
+            return fail(e);
+        }
+    }
+
+    /**
+     * Validates the parsed value against the constraints of the expected type.
+     *
+     * @param value parsed value
+     * @return the value or an error
+     */
+    Object complete(Object value) {
+        return JsonParser.validateConstraints(value, options, typed);
+    }
+
+    private BError fail(BError e) {
+        error = e;
+        // Release the partially built value.
+        sm.reset();
+        return e;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.json;
+
+import io.ballerina.lib.data.jsondata.utils.Constants;
+import io.ballerina.lib.data.jsondata.utils.DataUtils;
+import io.ballerina.lib.data.jsondata.utils.DiagnosticErrorCode;
+import io.ballerina.lib.data.jsondata.utils.DiagnosticLog;
+import io.ballerina.lib.data.jsondata.utils.TypeCache;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable description of how a JSON object binds to a record type. A plan is computed once per record type and
+ * shared by the parser and the traverser, which only keep track of the fields visited in the current object.
+ *
+ * @since 1.1.4
+ */
+public final class RecordBindingPlan {
+
+    // The plan of a recursive record type refers to the record type, hence is not dropped from the cache.
+    private static final TypeCache<RecordType, RecordBindingPlan> PLANS = new TypeCache<>();
+
+    /**
+     * Plan for the mapping types which have no declared fields, e.g. maps, json and anydata.
+     */
+    static final RecordBindingPlan EMPTY = new RecordBindingPlan();
+
+    private final Map<String, BoundField> fields;
+    private final List<BoundField> fieldList;
+    private final Map<String, FieldConstraint> constraints;
+    private final Type restType;
+    private final Module pkg;
+    private final String recordName;
+
+    private RecordBindingPlan() {
+        this.fields = Collections.emptyMap();
+        this.fieldList = Collections.emptyList();
+        this.constraints = Collections.emptyMap();
+        this.restType = null;
+        this.pkg = null;
+        this.recordName = null;
+    }
+
+    private RecordBindingPlan(RecordType recordType) {
+        Map<String, Field> fieldsByJsonName = JsonCreator.getAllFieldsInRecord(recordType);
+        Map<String, BoundField> boundFields = new HashMap<>(fieldsByJsonName.size() * 2);
+        List<BoundField> orderedFields = new ArrayList<>(fieldsByJsonName.size());
+        for (Map.Entry<String, Field> entry : fieldsByJsonName.entrySet()) {
+            Field field = entry.getValue();
+            long flags = field.getFlags();
+            BoundField boundField = new BoundField(orderedFields.size(), field, field.getFieldName(),
+                    StringUtils.fromString(field.getFieldName()), field.getFieldType(),
+                    TypeUtils.getReferredType(field.getFieldType()), SymbolFlags.isFlagOn(flags, SymbolFlags.REQUIRED),
+                    SymbolFlags.isFlagOn(flags, SymbolFlags.OPTIONAL), field.getFieldType().isNilable());
+            boundFields.put(entry.getKey(), boundField);
+            orderedFields.add(boundField);
+        }
+        this.fields = Collections.unmodifiableMap(boundFields);
+        this.fieldList = Collections.unmodifiableList(orderedFields);
+        this.constraints = compileConstraints(recordType);
+        this.restType = recordType.getRestFieldType();
+        this.pkg = recordType.getPackage();
+        this.recordName = recordType.getName();
+    }
+
+    static RecordBindingPlan of(RecordType recordType) {
+        return PLANS.get(recordType, RecordBindingPlan::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, FieldConstraint> compileConstraints(RecordType recordType) {
+        if (!DataUtils.hasConstraints(recordType)) {
+            return Collections.emptyMap();
+        }
+        BMap<BString, Object> annotations = recordType.getAnnotations();
+        Map<String, FieldConstraint> constraints = new HashMap<>();
+        for (Field field : recordType.getFields().values()) {
+            Object fieldAnnotations = annotations.get(StringUtils.fromString(Constants.FIELD + field.getFieldName()));
+            FieldConstraint constraint = FieldConstraint.of(field,
+                    fieldAnnotations instanceof BMap<?, ?> ? (BMap<BString, Object>) fieldAnnotations : null);
+            if (constraint != null) {
+                constraints.put(field.getFieldName(), constraint);
+            }
+        }
+        return constraints.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(constraints);
+    }
+
+    /**
+     * Returns the field bound to the given JSON member name, which is the name given with the {@code @Name}
+     * annotation if present.
+     *
+     * @param jsonFieldName name of the member in the JSON object
+     * @return the bound field or {@code null} if the record has no such field
+     */
+    BoundField getField(String jsonFieldName) {
+        return fields.get(jsonFieldName);
+    }
+
+    /**
+     * Returns the constraint of the given record field which is checked while the field is parsed.
+     *
+     * @param fieldName name of the record field
+     * @return the constraint or {@code null} if the field has no such constraint
+     */
+    FieldConstraint getConstraint(String fieldName) {
+        return constraints.get(fieldName);
+    }
+
+    boolean hasConstraints() {
+        return !constraints.isEmpty();
+    }
+
+    int size() {
+        return fieldList.size();
+    }
+
+    Type getRestType() {
+        return restType;
+    }
+
+    BMap<BString, Object> createRecordValue() {
+        return ValueCreator.createRecordValue(pkg, recordName);
+    }
+
+    /**
+     * Checks that all the required fields of the record are among the visited fields.
+     *
+     * @param visitedFields indexes of the fields present in the JSON object
+     * @param absentAsNilableType whether absent nilable fields are allowed
+     */
+    void validateRequiredFields(BitSet visitedFields, boolean absentAsNilableType) {
+        BoundField missingField = findMissingRequiredField(visitedFields, absentAsNilableType);
+        if (missingField != null) {
+            throw DiagnosticLog.error(DiagnosticErrorCode.REQUIRED_FIELD_NOT_PRESENT, missingField.name());
+        }
+    }
+
+    /**
+     * Returns the first required field of the record which is not among the visited fields.
+     *
+     * @param visitedFields indexes of the fields present in the JSON object
+     * @param absentAsNilableType whether absent nilable fields are allowed
+     * @return the missing field or {@code null} if all the required fields are present
+     */
+    BoundField findMissingRequiredField(BitSet visitedFields, boolean absentAsNilableType) {
+        for (BoundField field : fieldList) {
+            if (visitedFields.get(field.index()) || absentAsNilableType && field.nilable()) {
+                continue;
+            }
+
+            if (field.required()) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A record field resolved against the JSON member name it binds to.
+     *
+     * @param index position of the field in the plan, used to track visited fields
+     * @param field the record field
+     * @param name name of the record field
+     * @param key name of the record field as a Ballerina string
+     * @param type declared type of the field
+     * @param referredType declared type of the field with type references resolved
+     * @param required whether the field is required
+     * @param optional whether the field is optional
+     * @param nilable whether the field type allows nil
+     */
+    record BoundField(int index, Field field, String name, BString key, Type type, Type referredType,
+                      boolean required, boolean optional, boolean nilable) {
+    }
+}
@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.json;
+
+import io.ballerina.lib.data.jsondata.FromString;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+
+import java.math.BigInteger;
+
+/**
+ * Decodes non-string JSON values, i.e. numbers and the literals {@code true}, {@code false} and {@code null}, straight
+ * from the parser buffer. Integers are accumulated digit by digit and floats are computed with the Clinger fast path
+ * or the Eisel-Lemire algorithm, hence the common cases neither allocate intermediate strings nor rely on exceptions.
+ * Values which are not decoded here are left to the string based conversion, which also reports the errors.
+ *
+ * @since 1.1.4
+ */
+class ScalarValueDecoder {
+
+    /**
+     * Returned when the value is not decoded and the string based conversion should be used instead.
+     */
+    static final Object NOT_DECODED = new Object();
+
+    private static final int MAX_MANTISSA_DIGITS = 19;
+    private static final int MAX_EXPONENT = 100000;
+    private static final long MAX_CLINGER_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final int SMALLEST_POWER_OF_TEN = -342;
+    private static final int LARGEST_POWER_OF_TEN = 308;
+    private static final int MANTISSA_EXPLICIT_BITS = 52;
+    private static final int MINIMUM_EXPONENT = -1023;
+    private static final int INFINITE_POWER = 0x7FF;
+    private static final int MIN_EXPONENT_ROUND_TO_EVEN = -4;
+    private static final int MAX_EXPONENT_ROUND_TO_EVEN = 23;
+    private static final long[] POWERS_OF_FIVE = computePowersOfFive();
+
+    private static final int NUMBER = 0;
+    private static final int TRUE = 1;
+    private static final int FALSE = 2;
+    private static final int NULL = 3;
+    private static final int OTHER = 4;
+
+    // Result of the last scan.
+    private boolean negative;
+    private boolean integer;
+    private boolean truncated;
+    private long mantissa;
+    private int exponent;
+
+    /**
+     * Decodes the value in the first {@code length} characters of {@code buff} to the given type.
+     *
+     * @param buff   buffer holding the value
+     * @param length length of the value
+     * @param type   expected type
+     * @return the decoded value or {@link #NOT_DECODED}
+     */
+    Object decode(char[] buff, int length, Type type) {
+        int kind = scan(buff, length);
+        if (kind == OTHER) {
+            return NOT_DECODED;
+        }
+
+        Type referredType = TypeUtils.getReferredType(type);
+        switch (referredType.getTag()) {
+            case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> {
+                return switch (kind) {
+                    case TRUE -> Boolean.TRUE;
+                    case FALSE -> Boolean.FALSE;
+                    case NULL -> null;
+                    default -> {
+                        Object intValue = toInt();
+                        yield intValue != NOT_DECODED ? intValue : toFloat(buff, length);
+                    }
+                };
+            }
+            case TypeTags.INT_TAG -> {
+                return kind == NUMBER ? toInt() : NOT_DECODED;
+            }
+            case TypeTags.SIGNED32_INT_TAG -> {
+                return kind == NUMBER ? toIntInRange(FromString.SIGNED32_MIN_VALUE, FromString.SIGNED32_MAX_VALUE)
+                        : NOT_DECODED;
+            }
+            case TypeTags.SIGNED16_INT_TAG -> {
+                return kind == NUMBER ? toIntInRange(FromString.SIGNED16_MIN_VALUE, FromString.SIGNED16_MAX_VALUE)
+                        : NOT_DECODED;
+            }
+            case TypeTags.SIGNED8_INT_TAG -> {
+                return kind == NUMBER ? toIntInRange(FromString.SIGNED8_MIN_VALUE, FromString.SIGNED8_MAX_VALUE)
+                        : NOT_DECODED;
+            }
+            case TypeTags.UNSIGNED32_INT_TAG -> {
+                return kind == NUMBER ? toIntInRange(0, FromString.UNSIGNED32_MAX_VALUE) : NOT_DECODED;
+            }
+            case TypeTags.UNSIGNED16_INT_TAG -> {
+                return kind == NUMBER ? toIntInRange(0, FromString.UNSIGNED16_MAX_VALUE) : NOT_DECODED;
+            }
+            case TypeTags.UNSIGNED8_INT_TAG -> {
+                return kind == NUMBER ? toIntInRange(0, FromString.UNSIGNED8_MAX_VALUE) : NOT_DECODED;
+            }
+            case TypeTags.BYTE_TAG -> {
+                if (kind != NUMBER) {
+                    return NOT_DECODED;
+                }
+                Object value = toIntInRange(FromString.BBYTE_MIN_VALUE, FromString.BBYTE_MAX_VALUE);
+                return value == NOT_DECODED ? value : Integer.valueOf(((Long) value).intValue());
+            }
+            case TypeTags.FLOAT_TAG -> {
+                return kind == NUMBER ? toFloat(buff, length) : NOT_DECODED;
+            }
+            case TypeTags.DECIMAL_TAG -> {
+                return kind == NUMBER ? toDecimal(buff, length) : NOT_DECODED;
+            }
+            case TypeTags.BOOLEAN_TAG -> {
+                return kind == TRUE ? Boolean.TRUE : kind == FALSE ? Boolean.FALSE : NOT_DECODED;
+            }
+            case TypeTags.NULL_TAG -> {
+                return kind == NULL ? null : NOT_DECODED;
+            }
+            case TypeTags.UNION_TAG -> {
+                return decodeToUnion(buff, length, kind, (UnionType) referredType);
+            }
+            default -> {
+                return NOT_DECODED;
+            }
+        }
+    }
+
+    /**
+     * Decodes a value to a union of basic types, choosing the member in the same order as the string based
+     * conversion: int, float, decimal, nil and then boolean.
+     */
+    private Object decodeToUnion(char[] buff, int length, int kind, UnionType unionType) {
+        boolean hasInt = false;
+        boolean hasFloat = false;
+        boolean hasDecimal = false;
+        boolean hasNull = false;
+        boolean hasBoolean = false;
+        for (Type memberType : unionType.getMemberTypes()) {
+            switch (TypeUtils.getReferredType(memberType).getTag()) {
+                case TypeTags.INT_TAG -> hasInt = true;
+                case TypeTags.FLOAT_TAG -> hasFloat = true;
+                case TypeTags.DECIMAL_TAG -> hasDecimal = true;
+                case TypeTags.NULL_TAG -> hasNull = true;
+                case TypeTags.BOOLEAN_TAG -> hasBoolean = true;
+                case TypeTags.STRING_TAG -> {
+                }
+                default -> {
+                    return NOT_DECODED;
+                }
+            }
+        }
+
+        switch (kind) {
+            case NUMBER -> {
+                if (hasInt) {
+                    Object intValue = toInt();
+                    if (intValue != NOT_DECODED) {
+                        return intValue;
+                    }
+                }
+                if (hasFloat) {
+                    return toFloat(buff, length);
+                }
+                return hasDecimal ? toDecimal(buff, length) : NOT_DECODED;
+            }
+            case NULL -> {
+                return hasNull ? null : NOT_DECODED;
+            }
+            default -> {
+                return hasBoolean ? kind == TRUE : NOT_DECODED;
+            }
+        }
+    }
+
+    /**
+     * Scans the value against the JSON number grammar, allowing leading zeros, and the JSON literals.
+     */
+    private int scan(char[] buff, int length) {
+        if (length == 0) {
+            return OTHER;
+        }
+
+        char first = buff[0];
+        if (first == 't') {
+            return matches(buff, length, "true") ? TRUE : OTHER;
+        } else if (first == 'f') {
+            return matches(buff, length, "false") ? FALSE : OTHER;
+        } else if (first == 'n') {
+            return matches(buff, length, "null") ? NULL : OTHER;
+        }
+
+        int i = 0;
+        negative = first == '-';
+        if (negative) {
+            i++;
+        }
+        integer = true;
+        truncated = false;
+        mantissa = 0;
+        exponent = 0;
+        int digits = 0;
+
+        int start = i;
+        for (; i < length && isDigit(buff[i]); i++) {
+            int digit = buff[i] - '0';
+            if (mantissa == 0 && digit == 0) {
+                continue;
+            }
+            if (digits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                digits++;
+            } else {
+                truncated = true;
+                exponent++;
+            }
+        }
+        if (i == start) {
+            return OTHER;
+        }
+
+        if (i < length && buff[i] == '.') {
+            integer = false;
+            start = ++i;
+            for (; i < length && isDigit(buff[i]); i++) {
+                int digit = buff[i] - '0';
+                if (mantissa == 0 && digit == 0) {
+                    exponent--;
+                } else if (digits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + digit;
+                    digits++;
+                    exponent--;
+                } else {
+                    truncated = true;
+                }
+            }
+            if (i == start) {
+                return OTHER;
+            }
+        }
+
+        if (i < length && (buff[i] == 'e' || buff[i] == 'E')) {
+            integer = false;
+            i++;
+            boolean negativeExponent = false;
+            if (i < length && (buff[i] == '-' || buff[i] == '+')) {
+                negativeExponent = buff[i] == '-';
+                i++;
+            }
+            start = i;
+            int exponentValue = 0;
+            for (; i < length && isDigit(buff[i]); i++) {
+                if (exponentValue < MAX_EXPONENT) {
+                    exponentValue = exponentValue * 10 + buff[i] - '0';
+                }
+            }
+            if (i == start) {
+                return OTHER;
+            }
+            exponent += negativeExponent ? -exponentValue : exponentValue;
+        }
+        return i == length ? NUMBER : OTHER;
+    }
+
+    private Object toInt() {
+        if (!integer || truncated) {
+            return NOT_DECODED;
+        }
+        if (negative) {
+            return Long.compareUnsigned(mantissa, Long.MIN_VALUE) <= 0 ? -mantissa : NOT_DECODED;
+        }
+        return mantissa >= 0 ? mantissa : NOT_DECODED;
+    }
+
+    private Object toIntInRange(long min, long max) {
+        Object value = toInt();
+        if (value == NOT_DECODED) {
+            return value;
+        }
+        long longValue = (Long) value;
+        return longValue >= min && longValue <= max ? value : NOT_DECODED;
+    }
+
+    private Object toFloat(char[] buff, int length) {
+        if (mantissa == 0) {
+            return negative ? -0.0d : 0.0d;
+        }
+        if (!truncated) {
+            if (Long.compareUnsigned(mantissa, MAX_CLINGER_MANTISSA) <= 0 && exponent >= -22 && exponent <= 22) {
+                double value = (double) mantissa;
+                value = exponent < 0 ? value / POWERS_OF_TEN[-exponent] : value * POWERS_OF_TEN[exponent];
+                return negative ? -value : value;
+            }
+            long bits = eiselLemire(mantissa, exponent);
+            if (bits != -1) {
+                return Double.longBitsToDouble(negative ? bits | Long.MIN_VALUE : bits);
+            }
+        }
+        return Double.parseDouble(new String(buff, 0, length));
+    }
+
+    private static Object toDecimal(char[] buff, int length) {
+        return ValueCreator.createDecimalValue(new String(buff, 0, length));
+    }
+
+    /**
+     * Computes the bits of the double nearest to {@code w * 10^q} for a mantissa of at most 19 digits.
+     *
+     * @return the bits of the double or {@code -1} if the result is subnormal or infinite
+     */
+    private static long eiselLemire(long w, int q) {
+        if (q < SMALLEST_POWER_OF_TEN || q > LARGEST_POWER_OF_TEN) {
+            return -1;
+        }
+
+        int lz = Long.numberOfLeadingZeros(w);
+        w <<= lz;
+        int index = 2 * (q - SMALLEST_POWER_OF_TEN);
+        long high = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]);
+        long low = w * POWERS_OF_FIVE[index];
+        long precisionMask = -1L >>> (MANTISSA_EXPLICIT_BITS + 3);
+        if ((high & precisionMask) == precisionMask) {
+            long secondHigh = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+            low += secondHigh;
+            if (Long.compareUnsigned(secondHigh, low) > 0) {
+                high++;
+            }
+        }
+
+        int upperBit = (int) (high >>> 63);
+        int shift = upperBit + 64 - MANTISSA_EXPLICIT_BITS - 3;
+        long mantissa = high >>> shift;
+        int power2 = (((152170 + 65536) * q) >> 16) + 63 + upperBit - lz - MINIMUM_EXPONENT;
+        if (power2 <= 0) {
+            return -1;
+        }
+
+        // Round to even when the value is exactly halfway between two doubles.
+        if (Long.compareUnsigned(low, 1) <= 0 && q >= MIN_EXPONENT_ROUND_TO_EVEN && q <= MAX_EXPONENT_ROUND_TO_EVEN
+                && (mantissa & 3) == 1 && (mantissa << shift) == high) {
+            mantissa &= ~1L;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (2L << MANTISSA_EXPLICIT_BITS)) {
+            mantissa = 1L << MANTISSA_EXPLICIT_BITS;
+            power2++;
+        }
+        mantissa &= ~(1L << MANTISSA_EXPLICIT_BITS);
+        if (power2 >= INFINITE_POWER) {
+            return -1;
+        }
+        return mantissa | ((long) power2 << MANTISSA_EXPLICIT_BITS);
+    }
+
+    private static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    /**
+     * Computes the 128-bit approximations of the powers of five used by the Eisel-Lemire algorithm, the high and
+     * the low 64 bits of each power being stored next to each other. Negative powers are rounded up and the
+     * positive powers are truncated.
+     */
+    private static long[] computePowersOfFive() {
+        long[] powers = new long[2 * (LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1)];
+        BigInteger twoTo128 = BigInteger.ONE.shiftLeft(128);
+        BigInteger twoTo127 = BigInteger.ONE.shiftLeft(127);
+        int index = 0;
+        for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+            BigInteger power;
+            if (q < 0) {
+                BigInteger powerOfFive = BigInteger.valueOf(5).pow(-q);
+                int z = powerOfFive.bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                power = BigInteger.ONE.shiftLeft(b).divide(powerOfFive).add(BigInteger.ONE);
+                while (power.compareTo(twoTo128) >= 0) {
+                    power = power.shiftRight(1);
+                }
+            } else {
+                power = BigInteger.valueOf(5).pow(q);
+                while (power.compareTo(twoTo127) < 0) {
+                    power = power.shiftLeft(1);
+                }
+                while (power.compareTo(twoTo128) >= 0) {
+                    power = power.shiftRight(1);
+                }
+            }
+            powers[index++] = power.shiftRight(64).longValue();
+            powers[index++] = power.longValue();
+        }
+        return powers;
+    }
+
+    private static boolean matches(char[] buff, int length, String literal) {
+        if (length != literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buff[i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+}
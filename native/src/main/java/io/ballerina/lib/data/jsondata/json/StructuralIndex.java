@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.json;
+
+import java.util.Arrays;
+
+/**
+ * Positions of the structural characters of a UTF-8 encoded JSON document, i.e. the quotes which delimit strings
+ * and the brackets, braces, commas and colons outside strings. The index is built in a single pass without parsing
+ * the values, and lets the document be split at the boundaries of its values.
+ *
+ * @since 1.1.4
+ */
+final class StructuralIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int[] positions;
+    private byte[] characters;
+    private int size;
+
+    private StructuralIndex(int capacity) {
+        this.positions = new int[capacity];
+        this.characters = new byte[capacity];
+    }
+
+    /**
+     * Builds the index of the given byte range.
+     *
+     * @param bytes UTF-8 encoded JSON document
+     * @param from  index of the first byte of the document
+     * @param to    index after the last byte of the document
+     * @return the structural index
+     */
+    static StructuralIndex build(byte[] bytes, int from, int to) {
+        StructuralIndex index = new StructuralIndex(Math.max(INITIAL_CAPACITY, (to - from) >>> 4));
+        boolean inString = false;
+        for (int i = from; i < to; i++) {
+            byte b = bytes[i];
+            if (inString) {
+                if (b == '\\') {
+                    // The escaped character can not end the string.
+                    i++;
+                } else if (b == '"') {
+                    inString = false;
+                    index.add(i, b);
+                }
+                continue;
+            }
+            switch (b) {
+                case '"' -> {
+                    inString = true;
+                    index.add(i, b);
+                }
+                case '{', '}', '[', ']', ',', ':' -> index.add(i, b);
+                default -> {
+                }
+            }
+        }
+        return index;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of the structural character at the given index.
+     *
+     * @param i index of the structural character
+     * @return position of the character in the document
+     */
+    int position(int i) {
+        return positions[i];
+    }
+
+    /**
+     * Returns the structural character at the given index.
+     *
+     * @param i index of the structural character
+     * @return the character
+     */
+    byte character(int i) {
+        return characters[i];
+    }
+
+    private void add(int position, byte character) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            characters = Arrays.copyOf(characters, size * 2);
+        }
+        positions[size] = position;
+        characters[size] = character;
+        size++;
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.json;
+
+import io.ballerina.lib.data.jsondata.io.Utf8Decoder;
+
+import java.util.Arrays;
+
+/**
+ * Compact representation of a parsed JSON document, which can be bound to several types without parsing the
+ * document again. The document is recorded as a flat array of entries, each of which holds the kind of a token in
+ * the upper byte and its payload in the rest.
+ * <ul>
+ *     <li>The start of an object or an array holds the index of its end entry, hence a skipped value is passed over
+ *     in constant time. The end entry holds the index of the start entry.</li>
+ *     <li>A field name, a string and a non-string value hold the offset of the text in the character buffer, and
+ *     the next entry holds its length. The text of a string without escape sequences is the text in the document,
+ *     while a string with escape sequences is decoded to the end of the buffer.</li>
+ * </ul>
+ * A document which is not well-formed per the JSON grammar is not recorded, and is bound by parsing the source
+ * instead, as the parser reports some of the errors only when a value is converted to the expected type.
+ *
+ * @since 1.1.4
+ */
+final class Tape {
+
+    static final int OBJECT = 1;
+    static final int ARRAY = 2;
+    static final int END = 3;
+    static final int FIELD_NAME = 4;
+    static final int STRING = 5;
+    static final int NON_STRING = 6;
+
+    private static final int KIND_SHIFT = 56;
+    private static final long PAYLOAD_MASK = (1L << KIND_SHIFT) - 1;
+    private static final char EOF = (char) -1;
+
+    private final char[] text;
+    private final int sourceLength;
+    private final long[] entries;
+    private final int size;
+
+    private Tape(char[] text, int sourceLength, long[] entries, int size) {
+        this.text = text;
+        this.sourceLength = sourceLength;
+        this.entries = entries;
+        this.size = size;
+    }
+
+    /**
+     * Records the given UTF-8 encoded JSON document.
+     *
+     * @param bytes  bytes which contain the JSON document
+     * @param offset index of the first byte of the JSON document
+     * @param length number of bytes of the JSON document
+     * @return the recorded document
+     */
+    static Tape of(byte[] bytes, int offset, int length) {
+        // A character is never encoded in fewer bytes than its UTF-16 code units.
+        char[] chars = new char[length + 2];
+        Utf8Decoder decoder = new Utf8Decoder();
+        int count = decoder.decode(bytes, offset, offset + length, chars);
+        char[] pending = new char[2];
+        if (decoder.flush(pending) > 0) {
+            chars[count++] = pending[0];
+        }
+        return of(chars, count);
+    }
+
+    /**
+     * Records the JSON document in the given characters. The characters are referred to by the tape, hence must not
+     * be modified afterwards.
+     *
+     * @param chars  characters of the JSON document
+     * @param length number of characters of the JSON document
+     * @return the recorded document
+     */
+    static Tape of(char[] chars, int length) {
+        return new Builder(chars, length).build();
+    }
+
+    /**
+     * Returns whether the document is recorded, else it has to be bound by parsing the source.
+     */
+    boolean isRecorded() {
+        return entries != null;
+    }
+
+    char[] text() {
+        return text;
+    }
+
+    int sourceLength() {
+        return sourceLength;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int kind(int i) {
+        return (int) (entries[i] >>> KIND_SHIFT);
+    }
+
+    int payload(int i) {
+        return (int) (entries[i] & PAYLOAD_MASK);
+    }
+
+    /**
+     * Returns the index of the entry after the value which starts at the given entry.
+     */
+    int next(int i) {
+        return switch (kind(i)) {
+            case OBJECT, ARRAY -> payload(i) + 1;
+            default -> i + 2;
+        };
+    }
+
+    private static final class Builder {
+
+        private static final int EXPECT_VALUE = 0;
+        private static final int EXPECT_FIELD_NAME = 1;
+        private static final int VALUE_END = 2;
+
+        private char[] text;
+        private final int length;
+        private int textSize;
+        private long[] entries = new long[64];
+        private int size;
+        private int[] openings = new int[16];
+        private int depth;
+        private int pos;
+
+        Builder(char[] chars, int length) {
+            this.text = chars;
+            this.length = length;
+            this.textSize = length;
+        }
+
+        Tape build() {
+            if (!record()) {
+                return new Tape(text, length, null, 0);
+            }
+            return new Tape(text, length, entries, size);
+        }
+
+        private boolean record() {
+            int state = EXPECT_VALUE;
+            while (true) {
+                skipWhitespace();
+                if (pos == length) {
+                    return false;
+                }
+                char ch = text[pos];
+                if (state == EXPECT_VALUE) {
+                    if (ch == '{' || ch == '[') {
+                        open(ch == '{' ? OBJECT : ARRAY);
+                        skipWhitespace();
+                        if (pos < length && text[pos] == (ch == '{' ? '}' : ']')) {
+                            close();
+                            state = VALUE_END;
+                        } else {
+                            state = ch == '{' ? EXPECT_FIELD_NAME : EXPECT_VALUE;
+                        }
+                    } else if (ch == '"' ? string(STRING) : nonString()) {
+                        state = VALUE_END;
+                    } else {
+                        return false;
+                    }
+                } else if (state == EXPECT_FIELD_NAME) {
+                    if (ch != '"' || !string(FIELD_NAME)) {
+                        return false;
+                    }
+                    skipWhitespace();
+                    if (pos == length || text[pos] != ':') {
+                        return false;
+                    }
+                    pos++;
+                    state = EXPECT_VALUE;
+                } else {
+                    if (depth == 0) {
+                        return false;
+                    }
+                    boolean inObject = kind(openings[depth - 1]) == OBJECT;
+                    if (ch == ',') {
+                        pos++;
+                        state = inObject ? EXPECT_FIELD_NAME : EXPECT_VALUE;
+                    } else if (ch == (inObject ? '}' : ']')) {
+                        close();
+                    } else {
+                        return false;
+                    }
+                }
+                if (state == VALUE_END && depth == 0) {
+                    skipWhitespace();
+                    return pos == length;
+                }
+            }
+        }
+
+        private void open(int kind) {
+            if (depth == openings.length) {
+                openings = Arrays.copyOf(openings, depth * 2);
+            }
+            openings[depth++] = size;
+            add(kind, 0);
+            pos++;
+        }
+
+        private void close() {
+            int opening = openings[--depth];
+            entries[opening] |= size;
+            add(END, opening);
+            pos++;
+        }
+
+        private boolean string(int kind) {
+            int from = ++pos;
+            while (pos < length) {
+                char ch = text[pos];
+                if (ch == '"') {
+                    add(kind, from);
+                    add(0, pos - from);
+                    pos++;
+                    return true;
+                } else if (ch == '\\') {
+                    return escapedString(kind, from);
+                } else if (ch == EOF) {
+                    return false;
+                }
+                pos++;
+            }
+            return false;
+        }
+
+        private boolean escapedString(int kind, int from) {
+            int start = textSize;
+            append(from, pos - from);
+            while (pos < length) {
+                char ch = text[pos++];
+                if (ch == '"') {
+                    add(kind, start);
+                    add(0, textSize - start);
+                    return true;
+                } else if (ch == EOF) {
+                    return false;
+                } else if (ch != '\\') {
+                    append(ch);
+                    continue;
+                }
+                if (pos == length) {
+                    return false;
+                }
+                switch (text[pos++]) {
+                    case '"' -> append('"');
+                    case '\\' -> append('\\');
+                    case '/' -> append('/');
+                    case 'b' -> append('\b');
+                    case 'f' -> append('\f');
+                    case 'n' -> append('\n');
+                    case 'r' -> append('\r');
+                    case 't' -> append('\t');
+                    case 'u' -> {
+                        if (pos + 4 > length) {
+                            return false;
+                        }
+                        int codeUnit = 0;
+                        for (int end = pos + 4; pos < end; pos++) {
+                            int digit = Character.digit(text[pos], 16);
+                            if (digit < 0 || text[pos] > 'f') {
+                                return false;
+                            }
+                            codeUnit = codeUnit << 4 | digit;
+                        }
+                        append((char) codeUnit);
+                    }
+                    default -> {
+                        return false;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean nonString() {
+            int from = pos;
+            while (pos < length && !isDelimiter(text[pos])) {
+                pos++;
+            }
+            if (pos == from) {
+                return false;
+            }
+            add(NON_STRING, from);
+            add(0, pos - from);
+            return true;
+        }
+
+        private void skipWhitespace() {
+            while (pos < length && isWhitespace(text[pos])) {
+                pos++;
+            }
+        }
+
+        private void append(int from, int count) {
+            ensureTextCapacity(count);
+            System.arraycopy(text, from, text, textSize, count);
+            textSize += count;
+        }
+
+        private void append(char ch) {
+            ensureTextCapacity(1);
+            text[textSize++] = ch;
+        }
+
+        private void ensureTextCapacity(int count) {
+            if (textSize + count > text.length) {
+                text = Arrays.copyOf(text, Math.max(text.length * 2, textSize + count));
+            }
+        }
+
+        private void add(int kind, long payload) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = (long) kind << KIND_SHIFT | payload;
+        }
+
+        private int kind(int i) {
+            return (int) (entries[i] >>> KIND_SHIFT);
+        }
+
+        private static boolean isWhitespace(char ch) {
+            return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+        }
+
+        private static boolean isDelimiter(char ch) {
+            return isWhitespace(ch) || ch == ',' || ch == ':' || ch == '"' || ch == '{' || ch == '}' || ch == '['
+                    || ch == ']' || ch == EOF;
+        }
+    }
+}
@@ -33,6 +33,7 @@ public class Constants {
     public static final String FIELD = "$field$.";
     public static final String FIELD_REGEX = "\\$field\\$\\.";
     public static final String NAME = "Name";
+    public static final String CONSTRAINT_MODULE_PREFIX = "ballerina/constraint:";
     public static final String NULL_VALUE = "null";
     public static final String TRUE = "true";
     public static final String FALSE = "false";
@@ -42,9 +43,13 @@ public class Constants {
     public static final BString NIL_AS_OPTIONAL_FIELD = StringUtils.fromString("nilAsOptionalField");
     public static final BString ABSENT_AS_NILABLE_TYPE = StringUtils.fromString("absentAsNilableType");
     public static final BString ENABLE_CONSTRAINT_VALIDATION = StringUtils.fromString("enableConstraintValidation");
+    public static final BString PARALLELISM = StringUtils.fromString("parallelism");
 
     public static final MapType JSON_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
     public static final MapType ANYDATA_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
     public static final String ESCAPE_SLASH = "\\\\";
     public static final String EMPTY = "";
+    public static final String PUSH_PARSER = "pushParser";
+    public static final String LAZY_JSON_VALUE = "lazyJsonValue";
+    public static final String TAPE = "tape";
 }
@@ -32,9 +32,10 @@ public class DataReader {
 
     private static final String METHOD_NAME_NEXT = "next";
     private static final String METHOD_NAME_CLOSE = "close";
+    private static final TypeCache<ObjectType, IteratorMethods> ITERATOR_METHODS = new TypeCache<>();
 
     public static MethodType resolveNextMethod(BObject iterator) {
-        MethodType method = getMethodType(iterator, METHOD_NAME_NEXT);
+        MethodType method = getIteratorMethods(iterator).next();
         if (method != null) {
             return method;
         }
@@ -42,11 +43,20 @@ public class DataReader {
     }
 
     public static MethodType resolveCloseMethod(BObject iterator) {
-        return getMethodType(iterator, METHOD_NAME_CLOSE);
+        return getIteratorMethods(iterator).close();
     }
 
-    public static MethodType getMethodType(BObject iterator, String methodName) {
+    private static IteratorMethods getIteratorMethods(BObject iterator) {
         ObjectType objectType = (ObjectType) TypeUtils.getReferredType(iterator.getOriginalType());
+        return ITERATOR_METHODS.get(objectType, type -> new IteratorMethods(getMethodType(type, METHOD_NAME_NEXT),
+                getMethodType(type, METHOD_NAME_CLOSE)));
+    }
+
+    public static MethodType getMethodType(BObject iterator, String methodName) {
+        return getMethodType((ObjectType) TypeUtils.getReferredType(iterator.getOriginalType()), methodName);
+    }
+
+    private static MethodType getMethodType(ObjectType objectType, String methodName) {
         MethodType[] methods = objectType.getMethods();
         // Assumes compile-time validation of the iterator object
         for (MethodType method : methods) {
@@ -56,4 +66,13 @@ public class DataReader {
         }
         return null;
     }
+
+    /**
+     * Methods of an iterator type, resolved once per type.
+     *
+     * @param next the {@code next} method
+     * @param close the {@code close} method or {@code null} if the iterator has none
+     */
+    private record IteratorMethods(MethodType next, MethodType close) {
+    }
 }
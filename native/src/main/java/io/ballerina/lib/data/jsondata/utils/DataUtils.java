@@ -1,15 +1,34 @@
 package io.ballerina.lib.data.jsondata.utils;
 
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.ReferenceType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.stdlib.constraint.Constraints;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
 import static io.ballerina.lib.data.jsondata.utils.Constants.EMPTY;
 import static io.ballerina.lib.data.jsondata.utils.Constants.ESCAPE_SLASH;
 
 public class DataUtils {
+    private static final TypeCache<Type, Boolean> CONSTRAINED_TYPES = new TypeCache<>();
+
     public static Object validateConstraints(Object convertedValue, BTypedesc typed, boolean requireValidation) {
-        if (!requireValidation) {
+        if (!requireValidation || !hasConstraints(typed.getDescribingType())) {
             return convertedValue;
         }
 
@@ -20,6 +39,111 @@ public class DataUtils {
         return convertedValue;
     }
 
+    /**
+     * Returns whether the given type, or any type reachable from it, carries a constraint annotation. Values of a
+     * type without constraints always pass the validation, hence it is skipped.
+     *
+     * @param type expected type
+     * @return true if the values of the type may violate a constraint
+     */
+    public static boolean hasConstraints(Type type) {
+        return CONSTRAINED_TYPES.get(type,
+                t -> hasConstraints(t, Collections.newSetFromMap(new IdentityHashMap<>())));
+    }
+
+    private static boolean hasConstraints(Type type, Set<Type> visitedTypes) {
+        if (type == null || !visitedTypes.add(type)) {
+            return false;
+        }
+
+        switch (type.getTag()) {
+            case TypeTags.TYPE_REFERENCED_TYPE_TAG -> {
+                ReferenceType referenceType = (ReferenceType) type;
+                return hasConstraintAnnotation(referenceType.getAnnotations())
+                        || hasConstraints(referenceType.getReferredType(), visitedTypes);
+            }
+            case TypeTags.RECORD_TYPE_TAG -> {
+                RecordType recordType = (RecordType) type;
+                if (hasConstraintAnnotation(recordType.getAnnotations())) {
+                    return true;
+                }
+                for (Field field : recordType.getFields().values()) {
+                    if (hasConstraints(field.getFieldType(), visitedTypes)) {
+                        return true;
+                    }
+                }
+                return hasConstraints(recordType.getRestFieldType(), visitedTypes);
+            }
+            case TypeTags.ARRAY_TAG -> {
+                return hasConstraints(((ArrayType) type).getElementType(), visitedTypes);
+            }
+            case TypeTags.TUPLE_TAG -> {
+                TupleType tupleType = (TupleType) type;
+                for (Type memberType : tupleType.getTupleTypes()) {
+                    if (hasConstraints(memberType, visitedTypes)) {
+                        return true;
+                    }
+                }
+                return hasConstraints(tupleType.getRestType(), visitedTypes);
+            }
+            case TypeTags.MAP_TAG -> {
+                return hasConstraints(((MapType) type).getConstrainedType(), visitedTypes);
+            }
+            case TypeTags.TABLE_TAG -> {
+                return hasConstraints(((TableType) type).getConstrainedType(), visitedTypes);
+            }
+            case TypeTags.UNION_TAG -> {
+                for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                    if (hasConstraints(memberType, visitedTypes)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            case TypeTags.INTERSECTION_TAG -> {
+                IntersectionType intersectionType = (IntersectionType) type;
+                for (Type constituentType : intersectionType.getConstituentTypes()) {
+                    if (hasConstraints(constituentType, visitedTypes)) {
+                        return true;
+                    }
+                }
+                return hasConstraints(intersectionType.getEffectiveType(), visitedTypes);
+            }
+            case TypeTags.NULL_TAG, TypeTags.BOOLEAN_TAG, TypeTags.INT_TAG, TypeTags.BYTE_TAG,
+                    TypeTags.SIGNED8_INT_TAG, TypeTags.SIGNED16_INT_TAG, TypeTags.SIGNED32_INT_TAG,
+                    TypeTags.UNSIGNED8_INT_TAG, TypeTags.UNSIGNED16_INT_TAG, TypeTags.UNSIGNED32_INT_TAG,
+                    TypeTags.FLOAT_TAG, TypeTags.DECIMAL_TAG, TypeTags.CHAR_STRING_TAG, TypeTags.STRING_TAG,
+                    TypeTags.FINITE_TYPE_TAG, TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG, TypeTags.READONLY_TAG -> {
+                return false;
+            }
+            default -> {
+                // Not known to be free of constraints.
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the given annotations, or the annotations of a field among them, include a constraint.
+     */
+    @SuppressWarnings("unchecked")
+    private static boolean hasConstraintAnnotation(BMap<BString, Object> annotations) {
+        if (annotations == null) {
+            return false;
+        }
+        for (BString annotationKey : annotations.getKeys()) {
+            String keyStr = annotationKey.getValue();
+            if (keyStr.startsWith(Constants.CONSTRAINT_MODULE_PREFIX)) {
+                return true;
+            }
+            if (keyStr.startsWith(Constants.FIELD) && annotations.get(annotationKey) instanceof BMap<?, ?> field
+                    && hasConstraintAnnotation((BMap<BString, Object>) field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static String getPrintableErrorMsg(BError err) {
         String errorMsg = err.getMessage() != null ? err.getMessage() : "";
         Object details = err.getDetails();
@@ -38,7 +38,11 @@ public enum DiagnosticErrorCode {
     CANNOT_CONVERT_TO_EXPECTED_TYPE("JSON_ERROR_011", "cannot.convert.to.expected.type"),
     UNDEFINED_FIELD("JSON_ERROR_012", "undefined.field"),
     CAN_NOT_READ_STREAM("JSON_ERROR_013", "cannot.read.stream"),
-    CYCLIC_REFERENCE("JSON_ERROR_014", "cyclic.reference");
+    CYCLIC_REFERENCE("JSON_ERROR_014", "cyclic.reference"),
+    PARSER_FINISHED("JSON_ERROR_015", "parser.finished"),
+    INVALID_JSON_LINE("JSON_ERROR_016", "invalid.json.line"),
+    CONSTRAINT_VIOLATION("JSON_ERROR_017", "constraint.violation"),
+    INVALID_BYTE_RANGE("JSON_ERROR_018", "invalid.byte.range");
 
     String diagnosticId;
     String messageKey;
@@ -20,6 +20,8 @@ package io.ballerina.lib.data.jsondata.utils;
 
 import io.ballerina.lib.data.ModuleUtils;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.ErrorType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 
@@ -51,4 +53,8 @@ public class DiagnosticLog {
         return ErrorCreator.createError(ModuleUtils.getModule(), ERROR, StringUtils.fromString(message),
                 null, null);
     }
+
+    public static ErrorType getErrorType() {
+        return TypeCreator.createErrorType(ERROR, ModuleUtils.getModule());
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.utils;
+
+import io.ballerina.runtime.api.types.FiniteType;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lookup tables of the value space of a finite type, e.g. an enum, keyed by the lexical form of each singleton.
+ * A table is computed once per finite type, so that matching a value is a single lookup instead of comparing with
+ * each singleton. Where singletons share a lexical form, the first one in the value space is kept.
+ *
+ * @since 1.1.4
+ */
+public final class FiniteTypeIndex {
+
+    private static final TypeCache<FiniteType, FiniteTypeIndex> INDEXES = new TypeCache<>();
+    private static final Object NO_VALUE = new Object();
+
+    private final Map<String, Object> values;
+    private final Map<String, BString> stringValues;
+    private final Map<String, Object> nonStringValues;
+
+    private FiniteTypeIndex(FiniteType finiteType) {
+        int capacity = finiteType.getValueSpace().size() * 2;
+        Map<String, Object> values = new HashMap<>(capacity);
+        Map<String, BString> stringValues = new HashMap<>(capacity);
+        Map<String, Object> nonStringValues = new HashMap<>(capacity);
+        for (Object singletonValue : finiteType.getValueSpace()) {
+            String lexicalForm = String.valueOf(singletonValue);
+            putIfAbsent(values, lexicalForm, singletonValue);
+            if (singletonValue instanceof BString stringValue) {
+                putIfAbsent(stringValues, lexicalForm, stringValue);
+            } else {
+                putIfAbsent(nonStringValues, lexicalForm, singletonValue);
+            }
+        }
+        this.values = values;
+        this.stringValues = stringValues;
+        this.nonStringValues = nonStringValues;
+    }
+
+    public static FiniteTypeIndex of(FiniteType finiteType) {
+        return INDEXES.get(finiteType, FiniteTypeIndex::new);
+    }
+
+    /**
+     * Returns whether the given value is the marker returned when no singleton matches.
+     *
+     * @param value value returned by a lookup
+     * @return true if no singleton matched
+     */
+    public static boolean isNoValue(Object value) {
+        return value == NO_VALUE;
+    }
+
+    /**
+     * Returns the singleton of the given lexical form, irrespective of its type.
+     *
+     * @param lexicalForm lexical form of the value
+     * @return the singleton, which may be {@code null} for nil, or the no value marker
+     */
+    public Object get(String lexicalForm) {
+        return values.getOrDefault(lexicalForm, NO_VALUE);
+    }
+
+    /**
+     * Returns the string singleton of the given lexical form, used for the values given as JSON strings.
+     *
+     * @param lexicalForm content of the JSON string
+     * @return the singleton or the no value marker
+     */
+    public Object getString(String lexicalForm) {
+        Object value = stringValues.get(lexicalForm);
+        return value != null ? value : NO_VALUE;
+    }
+
+    /**
+     * Returns the non-string singleton of the given lexical form, used for the JSON numbers, booleans and null.
+     *
+     * @param lexicalForm JSON token of the value
+     * @return the singleton, which may be {@code null} for nil, or the no value marker
+     */
+    public Object getNonString(String lexicalForm) {
+        return nonStringValues.getOrDefault(lexicalForm, NO_VALUE);
+    }
+
+    private static <V> void putIfAbsent(Map<String, V> map, String lexicalForm, V value) {
+        // Map.putIfAbsent would replace a key mapped to nil.
+        if (!map.containsKey(lexicalForm)) {
+            map.put(lexicalForm, value);
+        }
+    }
+}
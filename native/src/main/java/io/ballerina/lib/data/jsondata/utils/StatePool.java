@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.utils;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, lock-free pool of reusable parsing states. Unlike a thread local, a state is held only while a value is
+ * parsed, hence the number of states is bounded by the number of concurrent parses instead of the number of threads,
+ * which may be large with virtual threads. A state is created when the pool is empty, and dropped when it is
+ * released to a full pool.
+ * <p>
+ * The states are kept in an array of slots, which are claimed and filled with atomic operations. The search for a
+ * slot starts at a position derived from the current thread, so that concurrent threads mostly use distinct slots.
+ *
+ * @param <T> type of the pooled state
+ * @since 1.1.4
+ */
+public class StatePool<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final Supplier<T> factory;
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    public StatePool(int capacity, Supplier<T> factory) {
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a pool with a capacity proportional to the number of available processors.
+     *
+     * @param factory function which creates a state when the pool is empty
+     */
+    public StatePool(Supplier<T> factory) {
+        this(Math.max(8, 2 * Runtime.getRuntime().availableProcessors()), factory);
+    }
+
+    /**
+     * Takes a state from the pool, or creates one if the pool is empty. The state is owned by the caller until it
+     * is released.
+     *
+     * @return a state which is not used by any other caller
+     */
+    public T acquire() {
+        acquisitions.increment();
+        int capacity = slots.length();
+        int start = probe(capacity);
+        for (int i = 0; i < capacity; i++) {
+            int slot = (start + i) % capacity;
+            if (slots.get(slot) == null) {
+                continue;
+            }
+            T state = slots.getAndSet(slot, null);
+            if (state != null) {
+                hits.increment();
+                return state;
+            }
+        }
+        return factory.get();
+    }
+
+    /**
+     * Returns the given state to the pool. The state must be reset by the caller and must not be used afterwards.
+     *
+     * @param state state taken from the pool
+     */
+    public void release(T state) {
+        int capacity = slots.length();
+        int start = probe(capacity);
+        for (int i = 0; i < capacity; i++) {
+            int slot = (start + i) % capacity;
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, state)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of states available in the pool.
+     *
+     * @return number of pooled states
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Returns the ratio of the acquisitions served with a pooled state.
+     *
+     * @return hit rate between 0 and 1, or 0 if no state has been acquired
+     */
+    public double hitRate() {
+        long count = acquisitions.sum();
+        return count == 0 ? 0 : (double) hits.sum() / count;
+    }
+
+    private static int probe(int capacity) {
+        return (Thread.currentThread().hashCode() & Integer.MAX_VALUE) % capacity;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.lib.data.jsondata.utils;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Concurrent cache of values derived from a {@link Type}. Types are compared by identity and held weakly, hence an
+ * entry is dropped once its type is no longer used by the program, provided the type cannot be reached from the
+ * cached value.
+ * <p>
+ * A value which refers to its own type keeps the entry for the life of the program, e.g. the binding plan of a
+ * recursive record type refers to the record type through the type of a field. As the types of a program are mostly
+ * defined by its source, the number of such entries is bounded by the number of types of the program.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the cached value
+ * @since 1.1.4
+ */
+public class TypeCache<K extends Type, V> {
+
+    private final ConcurrentHashMap<Object, V> cache = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Type> staleKeys = new ReferenceQueue<>();
+
+    /**
+     * Returns the value cached for the given type, computing it with the given function if absent. The value is
+     * computed outside of any lock, so the function may itself look up other types of the same cache.
+     *
+     * @param type type to look up
+     * @param mappingFunction function used to compute the value for a type seen for the first time
+     * @return the cached value
+     */
+    public V get(K type, Function<K, V> mappingFunction) {
+        V value = cache.get(new LookupKey(type));
+        if (value != null) {
+            return value;
+        }
+
+        expungeStaleEntries();
+        value = mappingFunction.apply(type);
+        V existingValue = cache.putIfAbsent(new WeakKey(type, staleKeys), value);
+        return existingValue != null ? existingValue : value;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private void expungeStaleEntries() {
+        Object staleKey;
+        while ((staleKey = staleKeys.poll()) != null) {
+            cache.remove(staleKey);
+        }
+    }
+
+    private interface Key {
+        Type type();
+    }
+
+    private static final class WeakKey extends WeakReference<Type> implements Key {
+
+        private final int hash;
+
+        WeakKey(Type type, ReferenceQueue<Type> queue) {
+            super(type, queue);
+            this.hash = System.identityHashCode(type);
+        }
+
+        @Override
+        public Type type() {
+            return get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key key)) {
+                return false;
+            }
+            Type type = get();
+            return type != null && type == key.type();
+        }
+    }
+
+    private record LookupKey(Type type) implements Key {
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(type);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key key && type == key.type();
+        }
+    }
+}